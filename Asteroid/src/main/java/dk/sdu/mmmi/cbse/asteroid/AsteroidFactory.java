@@ -7,10 +7,12 @@ import dk.sdu.mmmi.cbse.common.components.MovementComponent;
 import dk.sdu.mmmi.cbse.common.components.RendererComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityPool;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.utils.EntityBuilder;
+import dk.sdu.mmmi.cbse.common.utils.FastMath;
 import dk.sdu.mmmi.cbse.commonasteroid.AsteroidComponent;
 import dk.sdu.mmmi.cbse.commonasteroid.AsteroidSize;
 import dk.sdu.mmmi.cbse.commonasteroid.IAsteroidSPI;
@@ -45,9 +47,17 @@ public class AsteroidFactory implements IAsteroidSPI {
     private static final float APPROACH_SPEED_MIN = 40.0f;
     private static final float APPROACH_SPEED_MAX = 100.0f;
 
+    private static final int POOL_CAPACITY = 128;
+
     private final Random random = new Random();
     private final IPhysicsSPI physicsSPI;
 
+    // Asteroids and their split pieces share one pool, size-dependent state is set on obtain
+    private final EntityPool asteroidPool = new EntityPool("asteroids", this::createPrefab, POOL_CAPACITY)
+            .onRelease(PhysicsComponent.class, PhysicsComponent::reset)
+            .onRelease(FlickerComponent.class, FlickerComponent::stopFlicker)
+            .onRelease(RendererComponent.class, renderer -> renderer.setVisible(true));
+
     public AsteroidFactory() {
         this.physicsSPI = ServiceLoader.load(IPhysicsSPI.class).findFirst().orElse(null);
         if (physicsSPI == null) {
@@ -98,7 +108,7 @@ public class AsteroidFactory implements IAsteroidSPI {
                     separationDirection
             );
 
-            world.addEntity(newAsteroid);
+            world.getCommandBuffer().addEntity(newAsteroid);
             LOGGER.log(Level.FINE, "Created split asteroid piece: {0} with separation: {1}",
                     new Object[]{newAsteroid.getID(), separationDirection});
         }
@@ -140,7 +150,7 @@ public class AsteroidFactory implements IAsteroidSPI {
                     actualImpactPoint
             );
 
-            world.addEntity(newAsteroid);
+            world.getCommandBuffer().addEntity(newAsteroid);
             LOGGER.log(Level.FINE, "Created trajectory-based split piece: {0} with direction: {1}",
                     new Object[]{newAsteroid.getID(), splitDirections[i]});
         }
@@ -207,8 +217,8 @@ public class AsteroidFactory implements IAsteroidSPI {
         float perp2Angle = bulletHeading - (float) Math.PI / 2;
 
         return new Vector2D[] {
-                new Vector2D((float) Math.cos(perp1Angle), (float) Math.sin(perp1Angle)),
-                new Vector2D((float) Math.cos(perp2Angle), (float) Math.sin(perp2Angle))
+                new Vector2D(FastMath.cos(perp1Angle), FastMath.sin(perp1Angle)),
+                new Vector2D(FastMath.cos(perp2Angle), FastMath.sin(perp2Angle))
         };
     }
 
@@ -220,21 +230,7 @@ public class AsteroidFactory implements IAsteroidSPI {
         float radius = calculateSizeForType(size);
         Vector2D position = calculateSplitPosition(parentTransform, splitDirection, radius);
 
-        double[] shape = generateAsteroidShape(radius);
-
-        Entity asteroid = EntityBuilder.create()
-                .withType(EntityType.ASTEROID)
-                .atPosition(position)
-                .withRotation(random.nextInt(360))
-                .withRadius(radius)
-                .withShape(shape)
-                .with(createAsteroidComponent(size, splitCount))
-                .with(createPhysicsComponent())
-                .with(createRendererComponent(size))
-                .with(createCollisionComponent())
-                .with(createAsteroidCollisionResponse())
-                .with(createFlickerComponent())
-                .build();
+        Entity asteroid = obtainAsteroid(size, splitCount, position, radius);
 
         applyTrajectoryBasedPhysics(asteroid, parentVelocity, splitDirection);
 
@@ -272,21 +268,7 @@ public class AsteroidFactory implements IAsteroidSPI {
         float radius = calculateSizeForType(size);
         Vector2D position = calculateSplitPosition(parentTransform, separationDirection, radius);
 
-        double[] shape = generateAsteroidShape(radius);
-
-        Entity asteroid = EntityBuilder.create()
-                .withType(EntityType.ASTEROID)
-                .atPosition(position)
-                .withRotation(random.nextInt(360))
-                .withRadius(radius)
-                .withShape(shape)
-                .with(createAsteroidComponent(size, splitCount))
-                .with(createPhysicsComponent())
-                .with(createRendererComponent(size))
-                .with(createCollisionComponent())
-                .with(createAsteroidCollisionResponse())
-                .with(createFlickerComponent())
-                .build();
+        Entity asteroid = obtainAsteroid(size, splitCount, position, radius);
 
         applySplitPhysics(asteroid, parentVelocity, separationDirection);
 
@@ -328,11 +310,11 @@ public class AsteroidFactory implements IAsteroidSPI {
         double baseAngle = (2.0 * Math.PI * pieceIndex) / totalPieces;
 
         double variation = (random.nextDouble() - 0.5) * Math.PI / 2.0;
-        double finalAngle = baseAngle + variation;
+        float finalAngle = (float) (baseAngle + variation);
 
         return new Vector2D(
-                (float) Math.cos(finalAngle),
-                (float) Math.sin(finalAngle)
+                FastMath.cos(finalAngle),
+                FastMath.sin(finalAngle)
         );
     }
 
@@ -361,6 +343,39 @@ public class AsteroidFactory implements IAsteroidSPI {
         }
     }
 
+    /**
+     * Build a pooled asteroid with every component an asteroid carries
+     */
+    private Entity createPrefab() {
+        return EntityBuilder.create()
+                .withType(EntityType.ASTEROID)
+                .with(new TransformComponent())
+                .with(createAsteroidComponent(AsteroidSize.LARGE, 0))
+                .with(createPhysicsComponent())
+                .with(createRendererComponent(AsteroidSize.LARGE))
+                .with(createCollisionComponent())
+                .with(createAsteroidCollisionResponse())
+                .with(createFlickerComponent())
+                .build();
+    }
+
+    /**
+     * Get an asteroid from the pool configured for a size and position
+     */
+    private Entity obtainAsteroid(AsteroidSize size, int splitCount, Vector2D position, float radius) {
+        Entity asteroid = asteroidPool.obtain();
+
+        TransformComponent transform = asteroid.getComponent(TransformComponent.class);
+        transform.setPosition(position);
+        transform.setRotation(random.nextInt(360));
+        transform.setRadius(radius);
+        transform.setPolygonCoordinates(generateAsteroidShape(radius));
+
+        configureAsteroidComponent(asteroid.getComponent(AsteroidComponent.class), size, splitCount);
+        configureRendererComponent(asteroid.getComponent(RendererComponent.class), size);
+        return asteroid;
+    }
+
     private PhysicsComponent createPhysicsComponent() {
         PhysicsComponent physics = new PhysicsComponent(PhysicsComponent.PhysicsType.DYNAMIC);
         physics.setMass(1.2f);
@@ -372,6 +387,12 @@ public class AsteroidFactory implements IAsteroidSPI {
 
     private AsteroidComponent createAsteroidComponent(AsteroidSize size, int splitCount) {
         AsteroidComponent component = new AsteroidComponent(size);
+        configureAsteroidComponent(component, size, splitCount);
+        return component;
+    }
+
+    private void configureAsteroidComponent(AsteroidComponent component, AsteroidSize size, int splitCount) {
+        component.setSize(size);
         component.setSplitCount(splitCount);
 
         switch (size) {
@@ -385,13 +406,17 @@ public class AsteroidFactory implements IAsteroidSPI {
                 component.setScoreValue(200);
                 break;
         }
-
-        return component;
     }
 
     private RendererComponent createRendererComponent(AsteroidSize size) {
         RendererComponent renderer = new RendererComponent();
         renderer.setRenderLayer(RenderLayer.OBSTACLE);
+        renderer.setFilled(true);
+        configureRendererComponent(renderer, size);
+        return renderer;
+    }
+
+    private void configureRendererComponent(RendererComponent renderer, AsteroidSize size) {
 
         switch (size) {
             case LARGE:
@@ -410,9 +435,6 @@ public class AsteroidFactory implements IAsteroidSPI {
                 renderer.setStrokeWidth(1.0f);
                 break;
         }
-
-        renderer.setFilled(true);
-        return renderer;
     }
 
     private ColliderComponent createCollisionComponent() {
@@ -456,12 +478,12 @@ public class AsteroidFactory implements IAsteroidSPI {
         double angleStep = 360.0 / vertices;
 
         for (int i = 0; i < vertices; i++) {
-            double angle = Math.toRadians(i * angleStep);
+            float angle = (float) (i * angleStep);
             double radius = size * (0.8 + random.nextDouble() * 0.4);
 
             int index = i * 2;
-            shape[index] = Math.cos(angle) * radius;
-            shape[index + 1] = Math.sin(angle) * radius;
+            shape[index] = FastMath.cosDeg(angle) * radius;
+            shape[index + 1] = FastMath.sinDeg(angle) * radius;
         }
 
         return shape;
@@ -469,21 +491,7 @@ public class AsteroidFactory implements IAsteroidSPI {
 
     private Entity createAsteroid(AsteroidSize size, int splitCount, Vector2D initialVelocity, Vector2D spawnPosition) {
         float radius = calculateSizeForType(size);
-        double[] shape = generateAsteroidShape(radius);
-
-        Entity asteroid = EntityBuilder.create()
-                .withType(EntityType.ASTEROID)
-                .atPosition(spawnPosition)
-                .withRotation(random.nextInt(360))
-                .withRadius(radius)
-                .withShape(shape)
-                .with(createAsteroidComponent(size, splitCount))
-                .with(createPhysicsComponent())
-                .with(createRendererComponent(size))
-                .with(createCollisionComponent())
-                .with(createAsteroidCollisionResponse())
-                .with(createFlickerComponent())
-                .build();
+        Entity asteroid = obtainAsteroid(size, splitCount, spawnPosition, radius);
 
         if (physicsSPI != null && !initialVelocity.equals(Vector2D.zero())) {
             physicsSPI.setVelocity(asteroid, initialVelocity);
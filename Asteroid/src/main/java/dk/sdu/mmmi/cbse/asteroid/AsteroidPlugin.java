@@ -1,6 +1,5 @@
 package dk.sdu.mmmi.cbse.asteroid;
 
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
@@ -98,13 +97,7 @@ public class AsteroidPlugin implements IPluginService {
         asteroids.clear();
 
         // Remove any other asteroids that may have spawned
-        List<Entity> remainingAsteroids = new ArrayList<>();
-        for (Entity entity : world.getEntities()) {
-            TagComponent tagComponent = entity.getComponent(TagComponent.class);
-            if (tagComponent != null && tagComponent.hasType(EntityType.ASTEROID)) {
-                remainingAsteroids.add(entity);
-            }
-        }
+        List<Entity> remainingAsteroids = new ArrayList<>(world.getEntitiesWithType(EntityType.ASTEROID));
 
         int removedSpawned = 0;
         for (Entity asteroid : remainingAsteroids) {
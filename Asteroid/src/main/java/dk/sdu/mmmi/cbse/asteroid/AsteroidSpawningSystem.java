@@ -1,11 +1,13 @@
 package dk.sdu.mmmi.cbse.asteroid;
 
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.events.IEventListener;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IEventService;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commonasteroid.IAsteroidSPI;
@@ -14,6 +16,7 @@ import dk.sdu.mmmi.cbse.commondifficulty.events.DifficultyChangedEvent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,7 +24,7 @@ import java.util.logging.Logger;
  * System responsible for maintaining asteroid population based on difficulty scaling.
  * Spawns asteroids to maintain target count as difficulty increases.
  */
-public class AsteroidSpawningSystem implements IUpdate, IEventListener<DifficultyChangedEvent> {
+public class AsteroidSpawningSystem implements IUpdate, IComponentAccess, IEventListener<DifficultyChangedEvent> {
     private static final Logger LOGGER = Logger.getLogger(AsteroidSpawningSystem.class.getName());
 
     private IAsteroidSPI asteroidFactory;
@@ -83,6 +86,16 @@ public class AsteroidSpawningSystem implements IUpdate, IEventListener<Difficult
         return 85; // Run after main systems but before rendering
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of();
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         refreshServices();
@@ -164,7 +177,7 @@ public class AsteroidSpawningSystem implements IUpdate, IEventListener<Difficult
 
             Entity newAsteroid = asteroidFactory.createAsteroid(gameData, world);
             if (newAsteroid != null) {
-                world.addEntity(newAsteroid);
+                world.getCommandBuffer().addEntity(newAsteroid);
                 lastSpawnTime = currentTime;
 
                 LOGGER.log(Level.INFO, "Spawned asteroid - Current: {0}/{1}, Difficulty: {2}",
@@ -179,13 +192,6 @@ public class AsteroidSpawningSystem implements IUpdate, IEventListener<Difficult
      * Count current asteroids in the world
      */
     private int countAsteroids(World world) {
-        int count = 0;
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.ASTEROID)) {
-                count++;
-            }
-        }
-        return count;
+        return world.countEntitiesWithType(EntityType.ASTEROID);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package dk.sdu.mmmi.cbse.asteroid;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.components.FlickerComponent;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+import dk.sdu.mmmi.cbse.common.components.RendererComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
@@ -8,8 +11,12 @@ import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.events.IEventListener;
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
+import dk.sdu.mmmi.cbse.common.services.ICriticality;
 import dk.sdu.mmmi.cbse.common.services.IEventService;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.common.utils.FastMath;
 import dk.sdu.mmmi.cbse.common.utils.FlickerUtility;
 import dk.sdu.mmmi.cbse.commonasteroid.AsteroidComponent;
 import dk.sdu.mmmi.cbse.commonasteroid.AsteroidSize;
@@ -20,13 +27,14 @@ import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System for processing asteroid behavior.
  */
-public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEvent> {
+public class AsteroidSystem implements IUpdate, IComponentAccess, ICriticality, IEventListener<AsteroidSplitEvent> {
     private static final Logger LOGGER = Logger.getLogger(AsteroidSystem.class.getName());
 
     private final IAsteroidSPI asteroidSplitter;
@@ -34,6 +42,9 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
     private final IPhysicsSPI physicsSPI;
     private World world;
 
+    // Game time of the last update, the governor may skip frames in between
+    private double lastUpdateTime = Double.NaN;
+
     public AsteroidSystem() {
         this.asteroidSplitter = ServiceLoader.load(IAsteroidSPI.class).findFirst().orElse(null);
         this.eventService = ServiceLoader.load(IEventService.class).findFirst().orElse(null);
@@ -54,13 +65,32 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
         return 100;
     }
 
+    @Override
+    public Criticality getCriticality() {
+        return Criticality.COSMETIC;
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(AsteroidComponent.class, TagComponent.class, TransformComponent.class, PhysicsComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of(FlickerComponent.class, RendererComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         this.world = world;
-        float deltaTime = Time.getDeltaTimeF();
+
+        // Advance by the time since the last run, which spans several frames while throttled
+        double now = Time.getTime();
+        float deltaTime = Double.isNaN(lastUpdateTime) ? Time.getDeltaTimeF() : (float) (now - lastUpdateTime);
+        lastUpdateTime = now;
 
         // Process all asteroids
-        for (Entity entity : world.getEntities()) {
+        for (Entity entity : world.query(AsteroidComponent.class, TagComponent.class)) {
             TagComponent tag = entity.getComponent(TagComponent.class);
             if (tag == null || !tag.hasType(EntityType.ASTEROID)) {
                 continue;
@@ -98,26 +128,20 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
             newPhysics.setDrag(1); // no linear drag
             newPhysics.setAngularDrag(1f); // no angular drag
             newPhysics.setMaxSpeed(500.0f);
-            asteroid.addComponent(newPhysics);
 
-            // Give it some initial velocity if it doesn't have any
-            if (physicsSPI != null) {
-                if (physicsSPI.getVelocity(asteroid).magnitudeSquared() < 1.0f) {
-                    // Generate random velocity
-                    float speed = 60.0f + (float)(Math.random() * 60.0f);
-                    float angle = (float)(Math.random() * 360.0);
-                    float radians = (float) Math.toRadians(angle);
-
-                    Vector2D velocity = new Vector2D(
-                            (float) Math.cos(radians) * speed,
-                            (float) Math.sin(radians) * speed
-                    );
-
-                    physicsSPI.setVelocity(asteroid, velocity);
-                    LOGGER.log(Level.INFO, "Added initial velocity to asteroid {0}: {1}",
-                            new Object[]{asteroid.getID(), velocity.magnitude()});
-                }
-            }
+            // Give it some initial velocity, it has none yet
+            float speed = 60.0f + (float)(Math.random() * 60.0f);
+            float angle = (float)(Math.random() * 360.0);
+            Vector2D velocity = new Vector2D(
+                    FastMath.cosDeg(angle) * speed,
+                    FastMath.sinDeg(angle) * speed
+            );
+            newPhysics.setVelocity(velocity);
+
+            // Attached at the next sync point, this system may run alongside others
+            world.getCommandBuffer().addComponent(asteroid, newPhysics);
+            LOGGER.log(Level.INFO, "Added initial velocity to asteroid {0}: {1}",
+                    new Object[]{asteroid.getID(), velocity.magnitude()});
         }
     }
 
@@ -187,10 +211,7 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
 
         if (asteroidSplitter != null) {
             try {
-                int entitiesBeforeSplit = world.getEntities().size();
-                int asteroidsBeforeSplit = countAsteroids(world);
-
-                // This is not very pretty
+                // Split pieces are queued on the command buffer and join the world at the next sync point
                 if (asteroidSplitter instanceof AsteroidFactory factory && event.isBulletCaused()) {
                     factory.createSplitAsteroidWithTrajectory(asteroid, bulletVelocity, impactPoint, world);
                     LOGGER.log(Level.INFO, "Used trajectory splitting");
@@ -200,18 +221,6 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
                     LOGGER.log(Level.INFO, "Used standard splitting");
                 }
 
-                int entitiesAfterSplit = world.getEntities().size();
-                int asteroidsAfterSplit = countAsteroids(world);
-                int newEntities = entitiesAfterSplit - entitiesBeforeSplit;
-                int newAsteroids = asteroidsAfterSplit - asteroidsBeforeSplit;
-
-                LOGGER.log(Level.INFO, "Split completed - created {0} new entities ({1} asteroids), total entities: {2}, total asteroids: {3}",
-                        new Object[]{newEntities, newAsteroids, entitiesAfterSplit, asteroidsAfterSplit});
-
-                if (newAsteroids == 0) {
-                    LOGGER.log(Level.WARNING, "Split event processed but no new asteroids were created!");
-                }
-
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Error splitting asteroid " + asteroid.getID(), e);
             }
@@ -220,20 +229,6 @@ public class AsteroidSystem implements IUpdate, IEventListener<AsteroidSplitEven
         }
     }
 
-    /**
-     * Count asteroids in the world for debugging
-     */
-    private int countAsteroids(World world) {
-        int count = 0;
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.ASTEROID)) {
-                count++;
-            }
-        }
-        return count;
-    }
-
     /**
      * Validate that an asteroid is suitable for splitting
      */
@@ -4,9 +4,12 @@ import dk.sdu.mmmi.cbse.common.RenderLayer;
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.*;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
+import dk.sdu.mmmi.cbse.common.data.EntityPool;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.utils.EntityBuilder;
+import dk.sdu.mmmi.cbse.common.utils.FastMath;
 import dk.sdu.mmmi.cbse.commonbullet.BulletComponent;
 import dk.sdu.mmmi.cbse.commonbullet.BulletType;
 import dk.sdu.mmmi.cbse.commonbullet.IBulletSPI;
@@ -21,7 +24,6 @@ import dk.sdu.mmmi.cbse.core.input.InputController;
 import javafx.scene.paint.Color;
 
 import java.util.ServiceLoader;
-import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,9 +46,15 @@ public class BulletFactory implements IBulletSPI {
     private static final float BURST_RECOIL_FORCE = 120f;
     private static final float AUTO_RECOIL_FORCE = 0f;
 
+    private static final int POOL_CAPACITY = 256;
+
     private final BulletRegistry bulletRegistry;
     private final IPhysicsSPI physicsSPI;
 
+    // Bullets are recycled through one pool per side, as source and collision handlers are fixed per side
+    private final EntityPool playerBulletPool = createPool(true);
+    private final EntityPool enemyBulletPool = createPool(false);
+
     /**
      * Create a new bullet factory
      */
@@ -84,42 +92,25 @@ public class BulletFactory implements IBulletSPI {
 
         float bulletRadius = getBulletRadius(bulletType);
         float spawnDistance = shooterTransform.getRadius() + DEFAULT_SPAWN_DISTANCE;
-        float radians = (float) Math.toRadians(rotation);
-        Vector2D forward = new Vector2D((float) Math.cos(radians), (float) Math.sin(radians));
-        Vector2D spawnPosition = shooterTransform.getPosition().add(forward.scale(spawnDistance));
+        float spawnX = shooterTransform.getX() + FastMath.cosDeg(rotation) * spawnDistance;
+        float spawnY = shooterTransform.getY() + FastMath.sinDeg(rotation) * spawnDistance;
+
+        Entity bullet = (isPlayerBullet ? playerBulletPool : enemyBulletPool).obtain();
 
-        BulletComponent bulletComponent = new BulletComponent(
-                UUID.fromString(shooter.getID()),
-                isPlayerBullet ? BulletComponent.BulletSource.PLAYER : BulletComponent.BulletSource.ENEMY
-        );
+        TransformComponent transform = bullet.getComponent(TransformComponent.class);
+        transform.setPosition(spawnX, spawnY);
+        transform.setRotation(rotation);
+        transform.setRadius(bulletRadius);
 
         // Configure bullet from weapon and bullet type
+        BulletComponent bulletComponent = bullet.getComponent(BulletComponent.class);
+        bulletComponent.setShooterHandle(shooter.getHandle());
         configureBulletComponent(bulletComponent, weaponComponent, bulletTypeConfig);
 
-        // Movement
-        MovementComponent movementComponent = new MovementComponent();
-        movementComponent.setPattern(MovementComponent.MovementPattern.LINEAR);
-        movementComponent.setSpeed(bulletComponent.getSpeed());
-        movementComponent.setRotationSpeed(0.0f);
-
-        // Collision
-        ColliderComponent colliderComponent = new ColliderComponent();
-        colliderComponent.setLayer(isPlayerBullet ? CollisionLayer.PLAYER_PROJECTILE : CollisionLayer.ENEMY_PROJECTILE);
+        bullet.getComponent(MovementComponent.class).setSpeed(bulletComponent.getSpeed());
 
         // Rendering with colors matching shooter
-        RendererComponent rendererComponent = createBulletRenderer(shooter, bulletTypeConfig, bulletRadius);
-
-        Entity bullet = EntityBuilder.create()
-                .withType(EntityType.BULLET)
-                .atPosition(spawnPosition)
-                .withRotation(rotation)
-                .withRadius(bulletRadius)
-                .with(bulletComponent)
-                .with(movementComponent)
-                .with(colliderComponent)
-                .with(rendererComponent)
-                .with(createBulletCollisionResponse(isPlayerBullet))
-                .build();
+        configureBulletRenderer(bullet.getComponent(RendererComponent.class), shooter, bulletTypeConfig, bulletRadius);
 
         LOGGER.log(Level.FINE, "Created {0} bullet (radius: {1}) from shooter {2}",
                 new Object[]{bulletType, bulletRadius, shooter.getID()});
@@ -127,6 +118,42 @@ public class BulletFactory implements IBulletSPI {
         return bullet;
     }
 
+    /**
+     * Create the bullet pool for one side. Per-shot state is configured in {@link #createBullet}.
+     */
+    private EntityPool createPool(boolean isPlayerBullet) {
+        BulletComponent.BulletSource source = isPlayerBullet
+                ? BulletComponent.BulletSource.PLAYER
+                : BulletComponent.BulletSource.ENEMY;
+
+        return new EntityPool(source + " bullets", () -> {
+            MovementComponent movementComponent = new MovementComponent();
+            movementComponent.setPattern(MovementComponent.MovementPattern.LINEAR);
+            movementComponent.setRotationSpeed(0.0f);
+
+            ColliderComponent colliderComponent = new ColliderComponent();
+            colliderComponent.setLayer(isPlayerBullet ? CollisionLayer.PLAYER_PROJECTILE : CollisionLayer.ENEMY_PROJECTILE);
+
+            RendererComponent rendererComponent = new RendererComponent();
+            rendererComponent.setShapeType(RendererComponent.ShapeType.CIRCLE);
+            rendererComponent.setRenderLayer(RenderLayer.BULLET);
+            rendererComponent.setFilled(true);
+
+            return EntityBuilder.create()
+                    .withType(EntityType.BULLET)
+                    .with(new TransformComponent())
+                    .with(new BulletComponent(EntityHandle.NULL, source))
+                    .with(movementComponent)
+                    .with(colliderComponent)
+                    .with(rendererComponent)
+                    .with(createBulletCollisionResponse(isPlayerBullet))
+                    .build();
+        }, POOL_CAPACITY)
+                .onRelease(BulletComponent.class, BulletComponent::reset)
+                .onRelease(MovementComponent.class, movement -> movement.setAccelerating(false))
+                .onRelease(RendererComponent.class, renderer -> renderer.setVisible(true));
+    }
+
     // Static counter for shotgun pellet distribution
     private static int shotgunPelletIndex = 0;
 
@@ -219,10 +246,9 @@ public class BulletFactory implements IBulletSPI {
         if (recoilForce > 0) {
             // Calculate recoil direction (opposite to bullet direction)
             float recoilAngle = bulletDirection + 180.0f;
-            float radians = (float) Math.toRadians(recoilAngle);
             Vector2D recoilDirection = new Vector2D(
-                    (float) Math.cos(radians),
-                    (float) Math.sin(radians)
+                    FastMath.cosDeg(recoilAngle),
+                    FastMath.sinDeg(recoilAngle)
             );
 
             // Apply recoil impulse
@@ -282,12 +308,10 @@ public class BulletFactory implements IBulletSPI {
     }
 
     /**
-     * Create renderer components with colors matching shooter
+     * Configure renderer colors matching shooter
      */
-    private RendererComponent createBulletRenderer(Entity shooter, BulletType bulletTypeConfig, float bulletRadius) {
-        RendererComponent rendererComponent = new RendererComponent();
-        rendererComponent.setShapeType(RendererComponent.ShapeType.CIRCLE);
-
+    private void configureBulletRenderer(RendererComponent rendererComponent, Entity shooter,
+                                         BulletType bulletTypeConfig, float bulletRadius) {
         // Get shooter's colors
         RendererComponent shooterRenderer = shooter.getComponent(RendererComponent.class);
         Color strokeColor;
@@ -309,11 +333,6 @@ public class BulletFactory implements IBulletSPI {
 
         float strokeWidth = Math.max(1.0f, bulletRadius * 0.4f);
         rendererComponent.setStrokeWidth(strokeWidth);
-
-        rendererComponent.setRenderLayer(RenderLayer.BULLET);
-        rendererComponent.setFilled(true);
-
-        return rendererComponent;
     }
 
     /**
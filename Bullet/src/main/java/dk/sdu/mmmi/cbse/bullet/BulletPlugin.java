@@ -1,6 +1,5 @@
 package dk.sdu.mmmi.cbse.bullet;
 
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
@@ -27,12 +26,9 @@ public class BulletPlugin implements IPluginService {
 
         // Remove all bullets
         int removedCount = 0;
-        for (Entity entity : world.getEntities()) {
-            TagComponent tagComponent = entity.getComponent(TagComponent.class);
-            if (tagComponent != null && tagComponent.hasType(EntityType.BULLET)) {
-                world.removeEntity(entity);
-                removedCount++;
-            }
+        for (Entity entity : world.getEntitiesWithType(EntityType.BULLET)) {
+            world.removeEntity(entity);
+            removedCount++;
         }
 
         LOGGER.log(Level.INFO, "Removed {0} bullets", removedCount);
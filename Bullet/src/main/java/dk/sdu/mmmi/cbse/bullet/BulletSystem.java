@@ -1,6 +1,8 @@
 package dk.sdu.mmmi.cbse.bullet;
 
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
@@ -8,15 +10,14 @@ import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System for bullet cleanup (removing out-of-bounds bullets).
  */
-public class BulletSystem implements IUpdate {
+public class BulletSystem implements IUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(BulletSystem.class.getName());
 
     @Override
@@ -25,32 +26,30 @@ public class BulletSystem implements IUpdate {
     }
 
     @Override
-    public void update(GameData gameData, World world) {
-        List<Entity> bulletsToRemove = new ArrayList<>();
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class, TransformComponent.class);
+    }
 
-        for (Entity entity : world.getEntities()) {
-            TagComponent tagComponent = entity.getComponent(TagComponent.class);
-            if (tagComponent == null || !tagComponent.hasType(EntityType.BULLET)) {
-                continue;
-            }
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of();
+    }
 
+    @Override
+    public void update(GameData gameData, World world) {
+        for (Entity entity : world.getEntitiesWithType(EntityType.BULLET)) {
             // Only check for out-of-bounds bullets
             TransformComponent transform = entity.getComponent(TransformComponent.class);
             if (transform == null) {
                 continue;
             }
 
-            // Check if bullet is out of bounds
+            // Removed at the next sync point, this system may run alongside others
             if (isOutOfBounds(transform, gameData)) {
-                bulletsToRemove.add(entity);
+                world.getCommandBuffer().removeEntity(entity);
+                LOGGER.log(Level.FINE, "Removed bullet: {0}", entity.getID());
             }
         }
-
-        // Remove expired bullets
-        for (Entity bullet : bulletsToRemove) {
-            world.removeEntity(bullet);
-            LOGGER.log(Level.FINE, "Removed bullet: {0}", bullet.getID());
-        }
     }
 
     private boolean isOutOfBounds(TransformComponent transform, GameData gameData) {
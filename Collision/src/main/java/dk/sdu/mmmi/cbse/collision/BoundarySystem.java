@@ -41,7 +41,7 @@ public class BoundarySystem implements IPluginService, ILateUpdate {
     @Override
     public void process(GameData gameData, World world) {
         // Enforce boundary collision for entities that should be contained
-        for (Entity entity : world.getEntities()) {
+        for (Entity entity : world.query(ColliderComponent.class, TransformComponent.class, PhysicsComponent.class)) {
             if (shouldEnforceBoundaryCollision(entity)) {
                 enforceBoundaryCollision(entity, gameData);
             }
@@ -74,13 +74,11 @@ public class BoundarySystem implements IPluginService, ILateUpdate {
      * Determine if an entity should be constrained by boundaries
      */
     private boolean shouldEnforceBoundaryCollision(Entity entity) {
-        if (!entity.hasComponent(ColliderComponent.class) ||
-                !entity.hasComponent(TransformComponent.class) ||
-                !entity.hasComponent(PhysicsComponent.class)) {
+        ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+        if (collider == null) {
             return false;
         }
 
-        ColliderComponent collider = entity.getComponent(ColliderComponent.class);
         CollisionLayer layer = collider.getLayer();
 
         return layer == CollisionLayer.PLAYER || layer == CollisionLayer.ENEMY;
@@ -8,18 +8,22 @@ import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IJobScheduler;
+import dk.sdu.mmmi.cbse.common.utils.FastMath;
 import dk.sdu.mmmi.cbse.commoncollision.ColliderComponent;
-import dk.sdu.mmmi.cbse.commoncollision.CollisionLayerMatrix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.ServiceLoader;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Collision detection system based on four different phases of collision checking:
  * <br>
- * 1. Spatial partitioning (broad-phase)
+ * 1. Spatial partitioning, sweep and prune or a bounding volume tree (broad-phase), see {@link IBroadPhase}.
+ * The broad-phase also filters by collision layer, so only pairs whose layers can collide reach the later phases.
  * <br>
  * 2. Circle-circle test (medium-phase)
  * <br>
@@ -29,22 +33,74 @@ import java.util.logging.Logger;
  */
 public class CollisionDetector {
     private static final Logger LOGGER = Logger.getLogger(CollisionDetector.class.getName());
-    private final CollisionLayerMatrix layerMatrix;
-    private final SpatialGrid spatialGrid;
+    private final IBroadPhase broadPhase;
+    private final IJobScheduler jobScheduler;
+
+    // Below this many candidate pairs, waking workers costs more than the tests themselves
+    private static final int PARALLEL_PAIR_THRESHOLD = 256;
+    private static final int PAIR_BATCH_SIZE = 64;
+
+    // Candidate pairs of the current pass, reused between frames
+    private Entity[] firsts = new Entity[PARALLEL_PAIR_THRESHOLD];
+    private Entity[] seconds = new Entity[PARALLEL_PAIR_THRESHOLD];
+    private boolean[] hits = new boolean[PARALLEL_PAIR_THRESHOLD];
+    private int candidateCount;
+
+    /**
+     * System property selecting the default broad-phase: "grid", "sap" or "tree"
+     */
+    public static final String BROAD_PHASE_PROPERTY = "collision.broadphase";
 
     // Grid configuration for spatial partitioning
     private static final int GRID_SIZE = 64; // Cells of 64x64 pixels
 
+    /**
+     * Create a detector using the broad-phase named by {@link #BROAD_PHASE_PROPERTY}, the grid by default
+     */
     public CollisionDetector() {
-        this.layerMatrix = CollisionLayerMatrix.getInstance();
-        this.spatialGrid = new SpatialGrid(GRID_SIZE);
-        LOGGER.log(Level.INFO, "CollisionDetector initialized with spatial partitioning");
+        this(createBroadPhase(System.getProperty(BROAD_PHASE_PROPERTY, "grid")));
+    }
+
+    /**
+     * Create a detector with a specific broad-phase
+     *
+     * @param broadPhase Strategy finding candidate pairs
+     */
+    public CollisionDetector(IBroadPhase broadPhase) {
+        this.broadPhase = broadPhase;
+        this.jobScheduler = ServiceLoader.load(IJobScheduler.class).findFirst().orElse(null);
+        LOGGER.log(Level.INFO, "CollisionDetector initialized with broad-phase: {0}",
+                broadPhase.getClass().getSimpleName());
     }
 
     /**
-     * Detect all collisions using spatial partitioning for O(n) instead of O(n²)
+     * Create a broad-phase by name
+     *
+     * @param name "grid" for the uniform spatial grid, "sap" for sweep and prune,
+     *             "tree" for the dynamic AABB tree
+     * @return New broad-phase, the grid for unknown names
+     */
+    public static IBroadPhase createBroadPhase(String name) {
+        switch (name) {
+            case "sap":
+                return new SweepAndPrune();
+            case "tree":
+                return new DynamicAabbTree();
+            case "grid":
+                return new SpatialGrid(GRID_SIZE);
+            default:
+                LOGGER.log(Level.WARNING, "Unknown broad-phase {0}, using grid", name);
+                return new SpatialGrid(GRID_SIZE);
+        }
+    }
+
+    /**
+     * Detect all collisions using the broad-phase for O(n) instead of O(n²)
      */
     public List<Pair<Entity, Entity>> detectCollisions(GameData gameData, World world) {
+        CollisionPassEvent pass = new CollisionPassEvent();
+        pass.begin();
+
         List<Pair<Entity, Entity>> collisions = new ArrayList<>();
         List<Entity> collidableEntities = getCollidableEntities(world);
 
@@ -53,31 +109,71 @@ public class CollisionDetector {
             return collisions;
         }
 
-        // Update spatial grid
-        spatialGrid.clear();
-        spatialGrid.updateGrid(collidableEntities, gameData);
+        // Update broad-phase
+        broadPhase.update(collidableEntities, gameData);
 
-        // Check collisions only within same grid cells
-        for (Entity entity1 : collidableEntities) {
-            List<Entity> nearbyEntities = spatialGrid.getNearbyEntities(entity1);
+        // Gather each candidate pair once
+        candidateCount = 0;
+        broadPhase.forEachPair(this::addCandidate);
 
-            for (Entity entity2 : nearbyEntities) {
-                // Avoid duplicate checks and self-collision
-                if (System.identityHashCode(entity1) >= System.identityHashCode(entity2)) {
-                    continue;
-                }
+        testCandidates();
 
-                if (canCollide(entity1, entity2) && isColliding(entity1, entity2)) {
-                    collisions.add(Pair.ordered(entity1, entity2));
+        // Collect hits in candidate order so the result does not depend on scheduling
+        for (int i = 0; i < candidateCount; i++) {
+            if (hits[i]) {
+                collisions.add(Pair.of(firsts[i], seconds[i]));
+                if (LOGGER.isLoggable(Level.FINE)) {
                     LOGGER.log(Level.FINE, "Collision detected between entities {0} and {1}",
-                            new Object[]{entity1.getID(), entity2.getID()});
+                            new Object[]{firsts[i].getID(), seconds[i].getID()});
                 }
             }
         }
 
+        if (pass.shouldCommit()) {
+            pass.entityCount = collidableEntities.size();
+            pass.candidatePairs = candidateCount;
+            pass.hits = collisions.size();
+            pass.commit();
+        }
+
+        // Drop entity references so removed entities are not kept alive until the next pass
+        Arrays.fill(firsts, 0, candidateCount, null);
+        Arrays.fill(seconds, 0, candidateCount, null);
+
         return collisions;
     }
 
+    private void addCandidate(Entity entity1, Entity entity2) {
+        if (candidateCount == firsts.length) {
+            int capacity = firsts.length * 2;
+            firsts = Arrays.copyOf(firsts, capacity);
+            seconds = Arrays.copyOf(seconds, capacity);
+            hits = Arrays.copyOf(hits, capacity);
+        }
+        firsts[candidateCount] = entity1;
+        seconds[candidateCount] = entity2;
+        candidateCount++;
+    }
+
+    /**
+     * Run the narrow-phase over the gathered candidates, on the job scheduler when there are enough of them
+     */
+    private void testCandidates() {
+        if (jobScheduler == null || candidateCount < PARALLEL_PAIR_THRESHOLD) {
+            testCandidates(0, candidateCount);
+            return;
+        }
+
+        // Pair tests only read components, and each batch writes its own slice of the hit array
+        jobScheduler.parallelFor(candidateCount, PAIR_BATCH_SIZE, this::testCandidates).complete();
+    }
+
+    private void testCandidates(int start, int end) {
+        for (int i = start; i < end; i++) {
+            hits[i] = isColliding(firsts[i], seconds[i]);
+        }
+    }
+
     /**
      * Optimized four-tier collision detection
      */
@@ -191,17 +287,6 @@ public class CollisionDetector {
     }
 
     // [Rest of the existing methods remain unchanged]
-    private boolean canCollide(Entity entity1, Entity entity2) {
-        ColliderComponent collider1 = entity1.getComponent(ColliderComponent.class);
-        ColliderComponent collider2 = entity2.getComponent(ColliderComponent.class);
-
-        if (collider1 == null || collider2 == null) {
-            return false;
-        }
-
-        return layerMatrix.canLayersCollide(collider1.getLayer(), collider2.getLayer());
-    }
-
     private boolean circleCircleCollision(TransformComponent t1, TransformComponent t2) {
         float dx = t1.getX() - t2.getX();
         float dy = t1.getY() - t2.getY();
@@ -255,8 +340,8 @@ public class CollisionDetector {
         }
 
         double[] worldCoords = new double[localCoords.length];
-        float cos = (float) Math.cos(Math.toRadians(transform.getRotation()));
-        float sin = (float) Math.sin(Math.toRadians(transform.getRotation()));
+        float cos = FastMath.cosDeg(transform.getRotation());
+        float sin = FastMath.sinDeg(transform.getRotation());
 
         for (int i = 0; i < localCoords.length / 2; i++) {
             // Rotate
@@ -279,8 +364,8 @@ public class CollisionDetector {
 
         for (int i = 0; i < sides; i++) {
             double angle = i * angleStep;
-            coords[i * 2] = radius * Math.cos(angle);
-            coords[i * 2 + 1] = radius * Math.sin(angle);
+            coords[i * 2] = radius * FastMath.cos((float) angle);
+            coords[i * 2 + 1] = radius * FastMath.sin((float) angle);
         }
 
         return coords;
@@ -292,16 +377,7 @@ public class CollisionDetector {
     }
 
     private List<Entity> getCollidableEntities(World world) {
-        List<Entity> collidableEntities = new ArrayList<>();
-
-        for (Entity entity : world.getEntities()) {
-            // Entity must have transform and collider components
-            if (entity.hasComponent(TransformComponent.class) &&
-                    entity.hasComponent(ColliderComponent.class)) {
-                collidableEntities.add(entity);
-            }
-        }
-
-        return collidableEntities;
+        // Entity must have transform and collider components
+        return world.query(TransformComponent.class, ColliderComponent.class).toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package dk.sdu.mmmi.cbse.collision;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning one collision detection pass.
+ */
+@Name("dk.sdu.mmmi.cbse.CollisionPass")
+@Label("Collision Pass")
+@Category({"Asteroids", "Collision"})
+@Description("Broad and narrow phase collision detection over all collidable entities")
+public class CollisionPassEvent extends jdk.jfr.Event {
+    @Label("Collidable Entities")
+    public int entityCount;
+
+    @Label("Candidate Pairs")
+    public int candidatePairs;
+
+    @Label("Hits")
+    public int hits;
+}
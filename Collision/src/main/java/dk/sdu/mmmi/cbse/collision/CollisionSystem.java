@@ -48,10 +48,10 @@ public class CollisionSystem implements ILateUpdate, ICollisionSPI {
             // Resolve collisions and get entities to remove
             List<Entity> entitiesToRemove = resolver.resolveCollisions(collisions, gameData, world);
 
-            // Remove entities marked for removal
+            // Remove entities marked for removal once the late update phase is done
             for (Entity entity : entitiesToRemove) {
-                world.removeEntity(entity);
-                LOGGER.log(Level.FINE, "Removed entity: {0}", entity.getID());
+                world.getCommandBuffer().removeEntity(entity);
+                LOGGER.log(Level.FINE, "Queued removal of entity: {0}", entity.getID());
             }
         }
     }
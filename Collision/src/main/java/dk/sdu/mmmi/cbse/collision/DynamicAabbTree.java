@@ -0,0 +1,564 @@
+package dk.sdu.mmmi.cbse.collision;
+
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.commoncollision.ColliderComponent;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayer;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayerMatrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dynamic bounding volume tree broad-phase for mixed object sizes and unbounded coordinates.
+ * <p>
+ * Each entity is a leaf holding a fattened box around its bounding circle. A leaf is only moved
+ * when the entity leaves its fat box: it is removed and reinserted next to the sibling that grows
+ * the tree's total perimeter least, and the ancestors are refit on the way up. Rotations keep the
+ * subtree heights within one of each other. Every node also keeps the collision layers present
+ * below it, so pair queries skip subtrees holding no layer they can collide with. Nodes live in flat
+ * arrays indexed by node id, and freed nodes are reused, so a warmed-up tree does not allocate.
+ */
+public class DynamicAabbTree implements IBroadPhase {
+    private static final Logger LOGGER = Logger.getLogger(DynamicAabbTree.class.getName());
+
+    private static final int NULL_NODE = -1;
+
+    // Padding around a leaf's bounding circle, lets entities move a few frames without a reinsert
+    private static final float FAT_MARGIN = 8.0f;
+
+    private final int[] layerMasks = CollisionLayerMatrix.getInstance().getCollisionMasks();
+
+    // Node boxes, fat for leaves and the union of the children for internal nodes
+    private float[] minX = new float[0];
+    private float[] minY = new float[0];
+    private float[] maxX = new float[0];
+    private float[] maxY = new float[0];
+    private int[] parents = new int[0]; // Next free node for nodes on the free list
+    private int[] child1 = new int[0];
+    private int[] child2 = new int[0];
+    private int[] heights = new int[0]; // 0 for leaves, -1 for free nodes
+    private int[] layerBits = new int[0]; // Layers of the leaves below
+
+    // Leaf data: tight box, layers it collides with, entity and the frame it was last seen
+    private float[] tightMinX = new float[0];
+    private float[] tightMinY = new float[0];
+    private float[] tightMaxX = new float[0];
+    private float[] tightMaxY = new float[0];
+    private int[] collisionMasks = new int[0];
+    private Entity[] entities = new Entity[0];
+    private long[] handles = new long[0];
+    private int[] seenFrames = new int[0];
+
+    private int root = NULL_NODE;
+    private int freeList = NULL_NODE;
+    private int nodeCapacity;
+    private int frame;
+
+    // Live leaves, and the leaf per entity slot index, checked against the entity stored there
+    private int[] leaves = new int[0];
+    private int leafCount;
+    private int[] leafOf = new int[0];
+
+    // Traversal stack reused by all queries
+    private int[] stack = new int[16];
+
+    public DynamicAabbTree() {
+        LOGGER.log(Level.INFO, "DynamicAabbTree broad-phase created");
+    }
+
+    @Override
+    public void update(List<Entity> entityList, GameData gameData) {
+        frame++;
+        int reinserted = 0;
+
+        for (Entity entity : entityList) {
+            TransformComponent transform = entity.getComponent(TransformComponent.class);
+            long handle = entity.getHandle();
+            if (transform == null || handle == EntityHandle.NULL) continue;
+
+            int index = EntityHandle.index(handle);
+            ensureIndexCapacity(index);
+
+            ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+            CollisionLayer layer = collider != null ? collider.getLayer() : null;
+            int bit = layer != null ? layer.getBit() : 0;
+
+            int leaf = leafOf[index];
+            if (leaf != NULL_NODE && heights[leaf] == 0 && entities[leaf] == entity) {
+                // A pooled entity may come back in its old slot with a new generation
+                handles[leaf] = handle;
+                setTightBounds(leaf, transform);
+                if (!fatContainsTight(leaf) || layerBits[leaf] != bit) {
+                    removeLeaf(leaf);
+                    fatten(leaf);
+                    setLayer(leaf, layer);
+                    insertLeaf(leaf);
+                    reinserted++;
+                }
+            } else {
+                leaf = allocateNode();
+                heights[leaf] = 0;
+                entities[leaf] = entity;
+                handles[leaf] = handle;
+                setTightBounds(leaf, transform);
+                fatten(leaf);
+                setLayer(leaf, layer);
+                insertLeaf(leaf);
+                leafOf[index] = leaf;
+
+                if (leafCount == leaves.length) {
+                    leaves = Arrays.copyOf(leaves, Math.max(16, leaves.length * 2));
+                }
+                leaves[leafCount++] = leaf;
+            }
+            seenFrames[leaf] = frame;
+        }
+
+        // Remove leaves of entities that are gone
+        for (int i = 0; i < leafCount; ) {
+            int leaf = leaves[i];
+            if (seenFrames[leaf] == frame) {
+                i++;
+                continue;
+            }
+            removeLeaf(leaf);
+            freeNode(leaf);
+            leaves[i] = leaves[--leafCount];
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "AABB tree updated {0} leaves, {1} reinserted, height {2}",
+                    new Object[]{leafCount, reinserted, getHeight()});
+        }
+    }
+
+    @Override
+    public void forEachPair(BiConsumer<Entity, Entity> visitor) {
+        for (int i = 0; i < leafCount; i++) {
+            int leaf = leaves[i];
+            int queryMask = collisionMasks[leaf];
+            if (queryMask == 0) continue;
+
+            float qMinX = tightMinX[leaf];
+            float qMinY = tightMinY[leaf];
+            float qMaxX = tightMaxX[leaf];
+            float qMaxY = tightMaxY[leaf];
+
+            int top = push(0, root);
+            while (top > 0) {
+                int node = stack[--top];
+                if (node == NULL_NODE || (layerBits[node] & queryMask) == 0
+                        || !overlaps(node, qMinX, qMinY, qMaxX, qMaxY)) {
+                    continue;
+                }
+                if (heights[node] > 0) {
+                    top = push(top, child1[node]);
+                    top = push(top, child2[node]);
+                    continue;
+                }
+                // Each pair is met from both leaves, report it from the lower handle only
+                if (handles[leaf] < handles[node] && tightOverlaps(node, qMinX, qMinY, qMaxX, qMaxY)) {
+                    visitor.accept(entities[leaf], entities[node]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every entity whose bounding circle's box overlaps a region
+     *
+     * @param regionMinX Region left edge
+     * @param regionMinY Region top edge
+     * @param regionMaxX Region right edge
+     * @param regionMaxY Region bottom edge
+     * @param visitor Receives each entity
+     */
+    public void queryRegion(float regionMinX, float regionMinY, float regionMaxX, float regionMaxY,
+                            Consumer<Entity> visitor) {
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == NULL_NODE || !overlaps(node, regionMinX, regionMinY, regionMaxX, regionMaxY)) {
+                continue;
+            }
+            if (heights[node] > 0) {
+                top = push(top, child1[node]);
+                top = push(top, child2[node]);
+            } else if (tightOverlaps(node, regionMinX, regionMinY, regionMaxX, regionMaxY)) {
+                visitor.accept(entities[node]);
+            }
+        }
+    }
+
+    /**
+     * Visit every entity whose bounding circle's box is crossed by a line segment
+     *
+     * @param fromX Segment start x
+     * @param fromY Segment start y
+     * @param toX Segment end x
+     * @param toY Segment end y
+     * @param visitor Receives each entity, in no particular order
+     */
+    public void queryRay(float fromX, float fromY, float toX, float toY, Consumer<Entity> visitor) {
+        float dx = toX - fromX;
+        float dy = toY - fromY;
+
+        int top = push(0, root);
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == NULL_NODE
+                    || !segmentHitsBox(minX[node], minY[node], maxX[node], maxY[node], fromX, fromY, dx, dy)) {
+                continue;
+            }
+            if (heights[node] > 0) {
+                top = push(top, child1[node]);
+                top = push(top, child2[node]);
+            } else if (segmentHitsBox(tightMinX[node], tightMinY[node], tightMaxX[node], tightMaxY[node],
+                    fromX, fromY, dx, dy)) {
+                visitor.accept(entities[node]);
+            }
+        }
+    }
+
+    /**
+     * Get the height of the tree
+     *
+     * @return Edges from the root to the deepest leaf, or -1 if the tree is empty
+     */
+    public int getHeight() {
+        return root == NULL_NODE ? -1 : heights[root];
+    }
+
+    private void insertLeaf(int leaf) {
+        if (root == NULL_NODE) {
+            root = leaf;
+            parents[leaf] = NULL_NODE;
+            return;
+        }
+
+        // Descend towards the sibling whose union with the leaf adds the least perimeter
+        int index = root;
+        while (heights[index] > 0) {
+            float area = perimeter(index);
+            float combinedArea = unionPerimeter(index, leaf);
+
+            float cost = 2.0f * combinedArea;
+            float inheritanceCost = 2.0f * (combinedArea - area);
+
+            int c1 = child1[index];
+            int c2 = child2[index];
+            float cost1 = descendCost(c1, leaf) + inheritanceCost;
+            float cost2 = descendCost(c2, leaf) + inheritanceCost;
+
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+            index = cost1 < cost2 ? c1 : c2;
+        }
+
+        int sibling = index;
+        int oldParent = parents[sibling];
+        int newParent = allocateNode();
+        parents[newParent] = oldParent;
+        heights[newParent] = heights[sibling] + 1;
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parents[sibling] = newParent;
+        parents[leaf] = newParent;
+        refit(newParent);
+
+        if (oldParent == NULL_NODE) {
+            root = newParent;
+        } else if (child1[oldParent] == sibling) {
+            child1[oldParent] = newParent;
+        } else {
+            child2[oldParent] = newParent;
+        }
+
+        fixAncestors(parents[leaf]);
+    }
+
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL_NODE;
+            return;
+        }
+
+        int parent = parents[leaf];
+        int grandParent = parents[parent];
+        int sibling = child1[parent] == leaf ? child2[parent] : child1[parent];
+
+        if (grandParent == NULL_NODE) {
+            root = sibling;
+            parents[sibling] = NULL_NODE;
+            freeNode(parent);
+            return;
+        }
+
+        // Splice the sibling into the parent's place
+        if (child1[grandParent] == parent) {
+            child1[grandParent] = sibling;
+        } else {
+            child2[grandParent] = sibling;
+        }
+        parents[sibling] = grandParent;
+        freeNode(parent);
+
+        fixAncestors(grandParent);
+    }
+
+    /**
+     * Rebalance and refit every node from the given one up to the root
+     */
+    private void fixAncestors(int node) {
+        while (node != NULL_NODE) {
+            node = balance(node);
+            heights[node] = 1 + Math.max(heights[child1[node]], heights[child2[node]]);
+            refit(node);
+            node = parents[node];
+        }
+    }
+
+    /**
+     * Rotate the taller grandchild subtree up if the children of a node differ in height by more than one
+     *
+     * @param a Node to balance
+     * @return Node now at a's position in the tree
+     */
+    private int balance(int a) {
+        if (heights[a] < 2) {
+            return a;
+        }
+
+        int b = child1[a];
+        int c = child2[a];
+        int difference = heights[c] - heights[b];
+
+        if (difference > 1) {
+            // Rotate c up
+            int f = child1[c];
+            int g = child2[c];
+            child1[c] = a;
+            parents[c] = parents[a];
+            parents[a] = c;
+            replaceChild(parents[c], a, c);
+
+            if (heights[f] > heights[g]) {
+                child2[c] = f;
+                child2[a] = g;
+                parents[g] = a;
+            } else {
+                child2[c] = g;
+                child2[a] = f;
+                parents[f] = a;
+            }
+            heights[a] = 1 + Math.max(heights[b], heights[child2[a]]);
+            heights[c] = 1 + Math.max(heights[a], heights[child2[c]]);
+            refit(a);
+            refit(c);
+            return c;
+        }
+
+        if (difference < -1) {
+            // Rotate b up
+            int d = child1[b];
+            int e = child2[b];
+            child1[b] = a;
+            parents[b] = parents[a];
+            parents[a] = b;
+            replaceChild(parents[b], a, b);
+
+            if (heights[d] > heights[e]) {
+                child2[b] = d;
+                child1[a] = e;
+                parents[e] = a;
+            } else {
+                child2[b] = e;
+                child1[a] = d;
+                parents[d] = a;
+            }
+            heights[a] = 1 + Math.max(heights[c], heights[child1[a]]);
+            heights[b] = 1 + Math.max(heights[a], heights[child2[b]]);
+            refit(a);
+            refit(b);
+            return b;
+        }
+
+        return a;
+    }
+
+    private void replaceChild(int parent, int oldChild, int newChild) {
+        if (parent == NULL_NODE) {
+            root = newChild;
+        } else if (child1[parent] == oldChild) {
+            child1[parent] = newChild;
+        } else {
+            child2[parent] = newChild;
+        }
+    }
+
+    private float descendCost(int child, int leaf) {
+        float combined = unionPerimeter(child, leaf);
+        return heights[child] == 0 ? combined : combined - perimeter(child);
+    }
+
+    private void refit(int node) {
+        int a = child1[node];
+        int b = child2[node];
+        minX[node] = Math.min(minX[a], minX[b]);
+        minY[node] = Math.min(minY[a], minY[b]);
+        maxX[node] = Math.max(maxX[a], maxX[b]);
+        maxY[node] = Math.max(maxY[a], maxY[b]);
+        layerBits[node] = layerBits[a] | layerBits[b];
+    }
+
+    private void setLayer(int leaf, CollisionLayer layer) {
+        layerBits[leaf] = layer != null ? layer.getBit() : 0;
+        collisionMasks[leaf] = layer != null ? layerMasks[layer.ordinal()] : 0;
+    }
+
+    private void setTightBounds(int leaf, TransformComponent transform) {
+        float x = transform.getX();
+        float y = transform.getY();
+        float radius = transform.getRadius();
+        tightMinX[leaf] = x - radius;
+        tightMinY[leaf] = y - radius;
+        tightMaxX[leaf] = x + radius;
+        tightMaxY[leaf] = y + radius;
+    }
+
+    private void fatten(int leaf) {
+        minX[leaf] = tightMinX[leaf] - FAT_MARGIN;
+        minY[leaf] = tightMinY[leaf] - FAT_MARGIN;
+        maxX[leaf] = tightMaxX[leaf] + FAT_MARGIN;
+        maxY[leaf] = tightMaxY[leaf] + FAT_MARGIN;
+    }
+
+    private boolean fatContainsTight(int leaf) {
+        return minX[leaf] <= tightMinX[leaf] && minY[leaf] <= tightMinY[leaf]
+                && maxX[leaf] >= tightMaxX[leaf] && maxY[leaf] >= tightMaxY[leaf];
+    }
+
+    private boolean overlaps(int node, float qMinX, float qMinY, float qMaxX, float qMaxY) {
+        return minX[node] <= qMaxX && qMinX <= maxX[node] && minY[node] <= qMaxY && qMinY <= maxY[node];
+    }
+
+    private boolean tightOverlaps(int leaf, float qMinX, float qMinY, float qMaxX, float qMaxY) {
+        return tightMinX[leaf] <= qMaxX && qMinX <= tightMaxX[leaf]
+                && tightMinY[leaf] <= qMaxY && qMinY <= tightMaxY[leaf];
+    }
+
+    /**
+     * Slab test of the segment from (x, y) to (x + dx, y + dy) against a box
+     */
+    private static boolean segmentHitsBox(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY,
+                                          float x, float y, float dx, float dy) {
+        float tMin = 0.0f;
+        float tMax = 1.0f;
+
+        if (Math.abs(dx) < 1e-6f) {
+            if (x < boxMinX || x > boxMaxX) return false;
+        } else {
+            float t1 = (boxMinX - x) / dx;
+            float t2 = (boxMaxX - x) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return false;
+        }
+
+        if (Math.abs(dy) < 1e-6f) {
+            return y >= boxMinY && y <= boxMaxY;
+        }
+        float t1 = (boxMinY - y) / dy;
+        float t2 = (boxMaxY - y) / dy;
+        tMin = Math.max(tMin, Math.min(t1, t2));
+        tMax = Math.min(tMax, Math.max(t1, t2));
+        return tMin <= tMax;
+    }
+
+    private float perimeter(int node) {
+        return perimeter(minX[node], minY[node], maxX[node], maxY[node]);
+    }
+
+    private float unionPerimeter(int a, int b) {
+        return perimeter(Math.min(minX[a], minX[b]), Math.min(minY[a], minY[b]),
+                Math.max(maxX[a], maxX[b]), Math.max(maxY[a], maxY[b]));
+    }
+
+    private static float perimeter(float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        return 2.0f * ((boxMaxX - boxMinX) + (boxMaxY - boxMinY));
+    }
+
+    private int push(int top, int node) {
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[top] = node;
+        return top + 1;
+    }
+
+    private int allocateNode() {
+        if (freeList == NULL_NODE) {
+            grow(Math.max(16, nodeCapacity * 2));
+        }
+        int node = freeList;
+        freeList = parents[node];
+        parents[node] = NULL_NODE;
+        child1[node] = NULL_NODE;
+        child2[node] = NULL_NODE;
+        heights[node] = 0;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        parents[node] = freeList;
+        heights[node] = -1;
+        entities[node] = null;
+        freeList = node;
+    }
+
+    private void grow(int capacity) {
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        child1 = Arrays.copyOf(child1, capacity);
+        child2 = Arrays.copyOf(child2, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        layerBits = Arrays.copyOf(layerBits, capacity);
+        tightMinX = Arrays.copyOf(tightMinX, capacity);
+        tightMinY = Arrays.copyOf(tightMinY, capacity);
+        tightMaxX = Arrays.copyOf(tightMaxX, capacity);
+        tightMaxY = Arrays.copyOf(tightMaxY, capacity);
+        collisionMasks = Arrays.copyOf(collisionMasks, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+        seenFrames = Arrays.copyOf(seenFrames, capacity);
+
+        // Chain the new nodes onto the free list
+        for (int node = capacity - 1; node >= nodeCapacity; node--) {
+            parents[node] = freeList;
+            heights[node] = -1;
+            freeList = node;
+        }
+        nodeCapacity = capacity;
+    }
+
+    private void ensureIndexCapacity(int index) {
+        if (index < leafOf.length) {
+            return;
+        }
+        int size = Math.max(index + 1, leafOf.length * 2);
+        int oldSize = leafOf.length;
+        leafOf = Arrays.copyOf(leafOf, size);
+        Arrays.fill(leafOf, oldSize, size, NULL_NODE);
+    }
+}
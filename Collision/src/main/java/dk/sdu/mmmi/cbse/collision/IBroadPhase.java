@@ -0,0 +1,30 @@
+package dk.sdu.mmmi.cbse.collision;
+
+import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.GameData;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Broad-phase strategy finding candidate pairs for the precise collision tests.
+ * Implementations may keep state between frames and are used from one thread at a time.
+ */
+public interface IBroadPhase {
+    /**
+     * Bring the structure up to date with this frame's collidable entities
+     *
+     * @param entities Entities with transform and collider components
+     * @param gameData Game data containing screen dimensions
+     */
+    void update(List<Entity> entities, GameData gameData);
+
+    /**
+     * Visit every candidate pair exactly once, the entity with the lower handle first.
+     * Every pair of entities whose bounding circles overlap and whose collision layers can collide
+     * must be visited, and pairs whose layers cannot collide must not be.
+     *
+     * @param visitor Receives each candidate pair
+     */
+    void forEachPair(BiConsumer<Entity, Entity> visitor);
+}
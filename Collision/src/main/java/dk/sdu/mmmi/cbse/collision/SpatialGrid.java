@@ -3,26 +3,54 @@ package dk.sdu.mmmi.cbse.collision;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.commoncollision.ColliderComponent;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayer;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayerMatrix;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Spatial partitioning grid for optimized collision detection.
  * Reduces collision checks from O(n^2) to O(n) by only checking entities in nearby grid cells.
+ * <p>
+ * The grid is a flat counting-sort layout: entity indices are bucketed by cell and collision layer
+ * into one array, with the entries of bucket b = cell * layers + layer at
+ * {@code cellEntries[cellStart[b]..cellStart[b + 1])}. Each cell also keeps a bitmask of the layers
+ * present, so only buckets of layers that can collide are ever paired. All arrays are kept across
+ * frames and only grow, so rebuilding the grid does not allocate once warmed up.
  */
-public class SpatialGrid {
+public class SpatialGrid implements IBroadPhase {
     private static final Logger LOGGER = Logger.getLogger(SpatialGrid.class.getName());
 
+    private static final int LAYER_COUNT = CollisionLayer.values().length;
+
     private final int cellSize;
-    private final Map<Integer, List<Entity>> grid;
+    private final int[] layerMasks;
     private int gridWidth;
     private int gridHeight;
 
+    // Entities of the current frame, indexed by insertion order
+    private Entity[] entities = new Entity[0];
+    private long[] handles = new long[0];
+    private int entityCount;
+
+    // Occupied cell range per entity: minX, minY, maxX, maxY
+    private int[] bounds = new int[0];
+    private int[] layers = new int[0];
+
+    // Counting-sort buckets of entity indices per cell and layer
+    private int[] cellStart = new int[1];
+    private int[] cellCursor = new int[0];
+    private int[] cellEntries = new int[0];
+    private int[] cellLayers = new int[0];
+
     public SpatialGrid(int cellSize) {
         this.cellSize = cellSize;
-        this.grid = new HashMap<>();
+        this.layerMasks = CollisionLayerMatrix.getInstance().getCollisionMasks();
         LOGGER.log(Level.INFO, "SpatialGrid created with cell size: {0}", cellSize);
     }
 
@@ -30,95 +58,187 @@ public class SpatialGrid {
      * Clear the grid and prepare for new frame
      */
     public void clear() {
-        grid.clear();
+        Arrays.fill(entities, 0, entityCount, null);
+        entityCount = 0;
     }
 
     /**
      * Update the grid with current entity positions
      *
-     * @param entities List of entities to place in grid
+     * @param entityList List of entities to place in grid
      * @param gameData Game data containing screen dimensions
      */
-    public void updateGrid(List<Entity> entities, GameData gameData) {
+    @Override
+    public void update(List<Entity> entityList, GameData gameData) {
+        clear();
         gridWidth = (gameData.getDisplayWidth() / cellSize) + 1;
         gridHeight = (gameData.getDisplayHeight() / cellSize) + 1;
+        int cellCount = gridWidth * gridHeight;
+        int bucketCount = cellCount * LAYER_COUNT;
+
+        if (cellStart.length < bucketCount + 1) {
+            cellStart = new int[bucketCount + 1];
+            cellCursor = new int[bucketCount];
+            cellLayers = new int[cellCount];
+        } else {
+            Arrays.fill(cellStart, 0, bucketCount + 1, 0);
+            Arrays.fill(cellLayers, 0, cellCount, 0);
+        }
+        ensureEntityCapacity(entityList.size());
 
-        for (Entity entity : entities) {
+        // Count pass: occupied buckets per entity, counted one slot ahead for the prefix sum
+        entityCount = 0;
+        int entryCount = 0;
+        for (Entity entity : entityList) {
             TransformComponent transform = entity.getComponent(TransformComponent.class);
-            if (transform == null) continue;
+            ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+            if (transform == null || collider == null || collider.getLayer() == null) continue;
+
+            int layer = collider.getLayer().ordinal();
+            if (layerMasks[layer] == 0) continue; // Collides with nothing
+
+            int index = entityCount++;
+            entities[index] = entity;
+            handles[index] = entity.getHandle();
+            layers[index] = layer;
+            entryCount += computeBounds(index, transform);
+
+            for (int gy = bounds[index * 4 + 1], maxY = bounds[index * 4 + 3]; gy <= maxY; gy++) {
+                for (int gx = bounds[index * 4], maxX = bounds[index * 4 + 2]; gx <= maxX; gx++) {
+                    int cell = getCellKey(gx, gy);
+                    cellStart[cell * LAYER_COUNT + layer + 1]++;
+                    cellLayers[cell] |= 1 << layer;
+                }
+            }
+        }
 
-            // Calculate grid coordinates for this entity
-            Set<Integer> cellKeys = getCellKeysForEntity(transform);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            cellStart[bucket + 1] += cellStart[bucket];
+        }
 
-            // Add entity to all cells it occupies
-            for (Integer key : cellKeys) {
-                grid.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+        // Scatter pass: place entity indices into their bucket ranges
+        if (cellEntries.length < entryCount) {
+            cellEntries = new int[Math.max(entryCount, cellEntries.length * 2)];
+        }
+        System.arraycopy(cellStart, 0, cellCursor, 0, bucketCount);
+        for (int index = 0; index < entityCount; index++) {
+            int layer = layers[index];
+            for (int gy = bounds[index * 4 + 1], maxY = bounds[index * 4 + 3]; gy <= maxY; gy++) {
+                for (int gx = bounds[index * 4], maxX = bounds[index * 4 + 2]; gx <= maxX; gx++) {
+                    cellEntries[cellCursor[getCellKey(gx, gy) * LAYER_COUNT + layer]++] = index;
+                }
             }
         }
 
-        LOGGER.log(Level.FINE, "Updated spatial grid with {0} entities across {1} cells",
-                new Object[]{entities.size(), grid.size()});
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated spatial grid with {0} entities across {1} cell entries",
+                    new Object[]{entityCount, entryCount});
+        }
     }
 
     /**
-     * Get all entities that could potentially collide with the given entity
+     * Visit every pair of entities that share at least one cell and whose layers can collide, exactly once.
+     * A pair is reported only from the first cell both entities occupy, so entities spanning
+     * several cells need no deduplication. The entity with the lower handle comes first.
      *
-     * @param entity Entity to find neighbors for
-     * @return List of nearby entities (including the entity itself)
+     * @param visitor Receives each candidate pair
      */
-    public List<Entity> getNearbyEntities(Entity entity) {
-        TransformComponent transform = entity.getComponent(TransformComponent.class);
-        if (transform == null) {
-            return Collections.emptyList();
+    @Override
+    public void forEachPair(BiConsumer<Entity, Entity> visitor) {
+        for (int gy = 0; gy < gridHeight; gy++) {
+            for (int gx = 0; gx < gridWidth; gx++) {
+                int cell = getCellKey(gx, gy);
+                int present = cellLayers[cell];
+
+                // Pair each present layer with itself and the higher layers it collides with
+                for (int remaining = present; remaining != 0; ) {
+                    int layer = Integer.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+
+                    int partners = layerMasks[layer] & present;
+                    int bucket = cell * LAYER_COUNT + layer;
+                    if ((partners & (1 << layer)) != 0) {
+                        visitWithin(bucket, gx, gy, visitor);
+                    }
+                    for (partners &= remaining; partners != 0; partners &= partners - 1) {
+                        int other = cell * LAYER_COUNT + Integer.numberOfTrailingZeros(partners);
+                        visitAcross(bucket, other, gx, gy, visitor);
+                    }
+                }
+            }
         }
+    }
 
-        Set<Entity> nearbyEntities = new HashSet<>();
-        Set<Integer> cellKeys = getCellKeysForEntity(transform);
+    private void visitWithin(int bucket, int gx, int gy, BiConsumer<Entity, Entity> visitor) {
+        int end = cellStart[bucket + 1];
+        for (int p = cellStart[bucket]; p < end; p++) {
+            for (int q = p + 1; q < end; q++) {
+                visit(cellEntries[p], cellEntries[q], gx, gy, visitor);
+            }
+        }
+    }
 
-        // Collect all entities from relevant cells
-        for (Integer key : cellKeys) {
-            List<Entity> cellEntities = grid.get(key);
-            if (cellEntities != null) {
-                nearbyEntities.addAll(cellEntities);
+    private void visitAcross(int bucket, int other, int gx, int gy, BiConsumer<Entity, Entity> visitor) {
+        int end = cellStart[bucket + 1];
+        int otherStart = cellStart[other];
+        int otherEnd = cellStart[other + 1];
+        for (int p = cellStart[bucket]; p < end; p++) {
+            for (int q = otherStart; q < otherEnd; q++) {
+                visit(cellEntries[p], cellEntries[q], gx, gy, visitor);
             }
         }
+    }
 
-        return new ArrayList<>(nearbyEntities);
+    private void visit(int a, int b, int gx, int gy, BiConsumer<Entity, Entity> visitor) {
+        if (Math.max(bounds[a * 4], bounds[b * 4]) != gx
+                || Math.max(bounds[a * 4 + 1], bounds[b * 4 + 1]) != gy) {
+            return; // Shared an earlier cell as well
+        }
+        if (handles[a] < handles[b]) {
+            visitor.accept(entities[a], entities[b]);
+        } else {
+            visitor.accept(entities[b], entities[a]);
+        }
     }
 
     /**
      * Calculate which grid cells an entity occupies based on its position and radius
      *
+     * @param index Entity index to store the cell range for
      * @param transform Entity's transform components
-     * @return Set of cell keys that the entity occupies
+     * @return Number of cells the entity occupies
      */
-    private Set<Integer> getCellKeysForEntity(TransformComponent transform) {
-        Set<Integer> cellKeys = new HashSet<>();
-
+    private int computeBounds(int index, TransformComponent transform) {
         float x = transform.getX();
         float y = transform.getY();
         float radius = transform.getRadius();
 
-        // Calculate bounding box of entity including radius
-        int minX = (int) Math.floor((x - radius) / cellSize);
-        int maxX = (int) Math.floor((x + radius) / cellSize);
-        int minY = (int) Math.floor((y - radius) / cellSize);
-        int maxY = (int) Math.floor((y + radius) / cellSize);
-
-        // Clamp to grid boundaries
-        minX = Math.max(0, minX);
-        maxX = Math.min(gridWidth - 1, maxX);
-        minY = Math.max(0, minY);
-        maxY = Math.min(gridHeight - 1, maxY);
-
-        // Add all cells in the bounding box
-        for (int gx = minX; gx <= maxX; gx++) {
-            for (int gy = minY; gy <= maxY; gy++) {
-                cellKeys.add(getCellKey(gx, gy));
-            }
+        // Calculate bounding box of entity including radius, clamped to grid boundaries
+        int minX = Math.max(0, (int) Math.floor((x - radius) / cellSize));
+        int maxX = Math.min(gridWidth - 1, (int) Math.floor((x + radius) / cellSize));
+        int minY = Math.max(0, (int) Math.floor((y - radius) / cellSize));
+        int maxY = Math.min(gridHeight - 1, (int) Math.floor((y + radius) / cellSize));
+
+        bounds[index * 4] = minX;
+        bounds[index * 4 + 1] = minY;
+        bounds[index * 4 + 2] = maxX;
+        bounds[index * 4 + 3] = maxY;
+
+        if (maxX < minX || maxY < minY) {
+            return 0; // Entirely off the grid
         }
+        return (maxX - minX + 1) * (maxY - minY + 1);
+    }
 
-        return cellKeys;
+    private void ensureEntityCapacity(int count) {
+        if (entities.length >= count) {
+            return;
+        }
+        int capacity = Math.max(count, entities.length * 2);
+        entities = Arrays.copyOf(entities, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * 4);
+        layers = Arrays.copyOf(layers, capacity);
     }
 
     /**
@@ -131,4 +251,4 @@ public class SpatialGrid {
     private int getCellKey(int gridX, int gridY) {
         return gridY * gridWidth + gridX;
     }
-}
\ No newline at end of file
+}
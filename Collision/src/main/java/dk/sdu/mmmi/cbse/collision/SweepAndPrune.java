@@ -0,0 +1,227 @@
+package dk.sdu.mmmi.cbse.collision;
+
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.commoncollision.ColliderComponent;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayerMatrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sort-and-sweep broad-phase over the x axis with temporal coherence.
+ * <p>
+ * Bounding boxes are kept in arrays sorted by their minimum x endpoint, together with their other
+ * endpoints, and the order is kept between frames. Entities move little from one frame to the next,
+ * so an insertion sort restores the order in close to linear time. The sweep then only compares
+ * boxes whose x intervals overlap, and checks the layer masks and the y interval before reporting
+ * a pair. Entities whose layer collides with nothing are left out. Coordinates are not clamped to the screen.
+ */
+public class SweepAndPrune implements IBroadPhase {
+    private static final Logger LOGGER = Logger.getLogger(SweepAndPrune.class.getName());
+
+    private final int[] layerMasks = CollisionLayerMatrix.getInstance().getCollisionMasks();
+
+    // Boxes in sweep order, one column per endpoint
+    private float[] minX = new float[0];
+    private float[] maxX = new float[0];
+    private float[] minY = new float[0];
+    private float[] maxY = new float[0];
+    private int[] layers = new int[0];
+    private Entity[] entities = new Entity[0];
+    private long[] handles = new long[0];
+    private int[] seenFrames = new int[0];
+    private int count;
+    private int frame;
+
+    // Sweep position per entity slot index, checked against the entity stored there
+    private int[] positions = new int[0];
+
+    // Entities that joined this frame
+    private Entity[] added = new Entity[0];
+
+    public SweepAndPrune() {
+        LOGGER.log(Level.INFO, "SweepAndPrune broad-phase created");
+    }
+
+    @Override
+    public void update(List<Entity> entityList, GameData gameData) {
+        frame++;
+        ensureCapacity(count + entityList.size());
+
+        // Refresh boxes of tracked entities in place and note the new ones
+        int addedCount = 0;
+        for (Entity entity : entityList) {
+            TransformComponent transform = entity.getComponent(TransformComponent.class);
+            ColliderComponent collider = entity.getComponent(ColliderComponent.class);
+            long handle = entity.getHandle();
+            if (transform == null || handle == EntityHandle.NULL
+                    || collider == null || collider.getLayer() == null
+                    || layerMasks[collider.getLayer().ordinal()] == 0) continue;
+
+            int index = EntityHandle.index(handle);
+            ensureIndexCapacity(index);
+
+            int position = positions[index];
+            if (position < count && entities[position] == entity) {
+                // A pooled entity may come back in its old slot with a new generation
+                handles[position] = handle;
+                setBounds(position, transform);
+                layers[position] = collider.getLayer().ordinal();
+                seenFrames[position] = frame;
+            } else {
+                added[addedCount++] = entity;
+            }
+        }
+
+        // Drop entities not seen this frame, keeping the order of the rest
+        int kept = 0;
+        for (int position = 0; position < count; position++) {
+            if (seenFrames[position] != frame) {
+                continue;
+            }
+            if (kept != position) {
+                move(position, kept);
+            }
+            kept++;
+        }
+        Arrays.fill(entities, kept, count, null);
+        count = kept;
+
+        // Append new entities at the end, the sort moves them into place
+        for (int i = 0; i < addedCount; i++) {
+            Entity entity = added[i];
+            entities[count] = entity;
+            handles[count] = entity.getHandle();
+            seenFrames[count] = frame;
+            setBounds(count, entity.getComponent(TransformComponent.class));
+            layers[count] = entity.getComponent(ColliderComponent.class).getLayer().ordinal();
+            count++;
+            added[i] = null;
+        }
+
+        int swaps = insertionSort();
+        for (int position = 0; position < count; position++) {
+            positions[EntityHandle.index(handles[position])] = position;
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Sweep and prune updated {0} boxes, {1} added, {2} swaps",
+                    new Object[]{count, addedCount, swaps});
+        }
+    }
+
+    @Override
+    public void forEachPair(BiConsumer<Entity, Entity> visitor) {
+        for (int a = 0; a < count; a++) {
+            float aMaxX = maxX[a];
+            float aMinY = minY[a];
+            float aMaxY = maxY[a];
+            int aMask = layerMasks[layers[a]];
+
+            // Sorted by min x, so the first box starting past our max ends the sweep
+            for (int b = a + 1; b < count && minX[b] <= aMaxX; b++) {
+                if ((aMask & (1 << layers[b])) == 0 || minY[b] > aMaxY || maxY[b] < aMinY) {
+                    continue;
+                }
+                if (handles[a] < handles[b]) {
+                    visitor.accept(entities[a], entities[b]);
+                } else {
+                    visitor.accept(entities[b], entities[a]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restore the order by minimum x endpoint
+     *
+     * @return Number of positions boxes moved
+     */
+    private int insertionSort() {
+        int swaps = 0;
+        for (int i = 1; i < count; i++) {
+            float key = minX[i];
+            if (key >= minX[i - 1]) {
+                continue;
+            }
+
+            float keyMaxX = maxX[i];
+            float keyMinY = minY[i];
+            float keyMaxY = maxY[i];
+            int keyLayer = layers[i];
+            Entity keyEntity = entities[i];
+            long keyHandle = handles[i];
+            int keySeen = seenFrames[i];
+
+            int j = i - 1;
+            while (j >= 0 && minX[j] > key) {
+                move(j, j + 1);
+                j--;
+                swaps++;
+            }
+
+            minX[j + 1] = key;
+            maxX[j + 1] = keyMaxX;
+            minY[j + 1] = keyMinY;
+            maxY[j + 1] = keyMaxY;
+            layers[j + 1] = keyLayer;
+            entities[j + 1] = keyEntity;
+            handles[j + 1] = keyHandle;
+            seenFrames[j + 1] = keySeen;
+        }
+        return swaps;
+    }
+
+    private void setBounds(int position, TransformComponent transform) {
+        float x = transform.getX();
+        float y = transform.getY();
+        float radius = transform.getRadius();
+        minX[position] = x - radius;
+        maxX[position] = x + radius;
+        minY[position] = y - radius;
+        maxY[position] = y + radius;
+    }
+
+    private void move(int from, int to) {
+        minX[to] = minX[from];
+        maxX[to] = maxX[from];
+        minY[to] = minY[from];
+        maxY[to] = maxY[from];
+        layers[to] = layers[from];
+        entities[to] = entities[from];
+        handles[to] = handles[from];
+        seenFrames[to] = seenFrames[from];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (minX.length >= capacity) {
+            return;
+        }
+        int size = Math.max(capacity, minX.length * 2);
+        minX = Arrays.copyOf(minX, size);
+        maxX = Arrays.copyOf(maxX, size);
+        minY = Arrays.copyOf(minY, size);
+        maxY = Arrays.copyOf(maxY, size);
+        layers = Arrays.copyOf(layers, size);
+        entities = Arrays.copyOf(entities, size);
+        handles = Arrays.copyOf(handles, size);
+        seenFrames = Arrays.copyOf(seenFrames, size);
+        added = Arrays.copyOf(added, size);
+    }
+
+    private void ensureIndexCapacity(int index) {
+        if (index < positions.length) {
+            return;
+        }
+        int size = Math.max(index + 1, positions.length * 2);
+        int oldSize = positions.length;
+        positions = Arrays.copyOf(positions, size);
+        Arrays.fill(positions, oldSize, size, Integer.MAX_VALUE);
+    }
+}
@@ -1,9 +1,11 @@
 module Collision {
     uses dk.sdu.mmmi.cbse.common.services.IEventService;
+    uses dk.sdu.mmmi.cbse.common.services.IJobScheduler;
 
     requires javafx.graphics;
     requires Common;
     requires java.logging;
+    requires jdk.jfr;
     requires CommonCollision;
     requires CommonPlayer;
     requires CommonBullet;
@@ -10,6 +10,16 @@ import java.util.Set;
  */
 public class TagComponent implements IComponent {
     private final EnumSet<EntityType> types;
+    private volatile TypeObserver observer;
+
+    /**
+     * Observer of type changes, used by the world to keep its type index current
+     */
+    public interface TypeObserver {
+        void typeAdded(EntityType type);
+
+        void typeRemoved(EntityType type);
+    }
 
     /**
      * Create a TagComponent with no initial types
@@ -36,8 +46,11 @@ public class TagComponent implements IComponent {
      * @param type EntityType to add
      */
     public void addType(EntityType type) {
-        if (type != null) {
-            types.add(type);
+        if (type != null && types.add(type)) {
+            TypeObserver current = observer;
+            if (current != null) {
+                current.typeAdded(type);
+            }
         }
     }
 
@@ -46,8 +59,11 @@ public class TagComponent implements IComponent {
      * @param type EntityType to remove
      */
     public void removeType(EntityType type) {
-        if (type != null) {
-            types.remove(type);
+        if (type != null && types.remove(type)) {
+            TypeObserver current = observer;
+            if (current != null) {
+                current.typeRemoved(type);
+            }
         }
     }
 
@@ -108,6 +124,16 @@ public class TagComponent implements IComponent {
      * Clear all types from this entity
      */
     public void clearTypes() {
-        types.clear();
+        for (EntityType type : getTypes()) {
+            removeType(type);
+        }
+    }
+
+    /**
+     * Set the observer notified when types are added or removed
+     * @param observer Observer, or null to stop notifications
+     */
+    public void setTypeObserver(TypeObserver observer) {
+        this.observer = observer;
     }
 }
\ No newline at end of file
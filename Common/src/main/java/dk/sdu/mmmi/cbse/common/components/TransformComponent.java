@@ -1,6 +1,7 @@
 package dk.sdu.mmmi.cbse.common.components;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.utils.FastMath;
 
 /**
  * Component that handles entity position, rotation, and shape described by Vector2D.
@@ -9,25 +10,41 @@ import dk.sdu.mmmi.cbse.common.Vector2D;
  * - 90° rotation points up (+Y direction)
  * - 180° rotation points left (-X direction)
  * - 270° rotation points down (-Y direction)
+ * <p>
+ * Position and scale are stored as primitive fields and updated in place, so moving an entity
+ * does not allocate. The {@link Vector2D} getters return snapshots for callers that prefer vectors.
+ * Direction vectors are only computed when read after a rotation change.
+ * <p>
+ * Systems stepping an entity at a fixed rate can store the previous state before each step, so the
+ * renderer can draw it between the last two ticks. Setting the position directly counts as a teleport
+ * and stops the interpolation until the next stored step.
  */
 public class TransformComponent implements IComponent {
-    private Vector2D position;
-    private Vector2D scale;
+    private float x;
+    private float y;
     private float rotation;
+    private float scaleX;
+    private float scaleY;
     private float radius;
     private double[] polygonCoordinates;
-    private Vector2D forward; // Calculated based on rotation
-    private Vector2D right; // Perpendicular to forward
+    // State before the last fixed step, only used while interpolating
+    private float previousX;
+    private float previousY;
+    private float previousRotation;
+    private boolean interpolating;
+    // Tick rate of the system storing the previous state, 0 for every master tick
+    private int stepRate;
+    // Direction vectors cached until the rotation changes, null when stale
+    private Vector2D forward;
+    private Vector2D right;
+    private Vector2D up;
+    private Vector2D backward;
 
     /**
      * Create a new transform at position (0,0) with scale (1,1)
      */
     public TransformComponent() {
-        this.position = new Vector2D(0, 0);
-        this.scale = new Vector2D(1, 1);
-        this.rotation = 0;
-        this.radius = 1;
-        this.updateDirectionVectors();
+        this(0, 0);
     }
 
     /**
@@ -36,41 +53,32 @@ public class TransformComponent implements IComponent {
      * @param y Initial Y position
      */
     public TransformComponent(float x, float y) {
-        this.position = new Vector2D(x, y);
-        this.scale = new Vector2D(1, 1);
+        this.x = x;
+        this.y = y;
+        this.scaleX = 1;
+        this.scaleY = 1;
         this.rotation = 0;
         this.radius = 1;
-        this.updateDirectionVectors();
     }
 
     /**
-     * Updates direction vectors based on current rotation.
-     * Uses mathematical coordinate system where +Y is up.
-     * Forward points in the direction of rotation.
-     * Right points 90 degrees clockwise from forward.
+     * Drop the cached direction vectors after a rotation change
      */
-    private void updateDirectionVectors() {
-        float radians = (float) Math.toRadians(rotation);
-
-        // Forward vector points in the direction of rotation
-        // 0° = (1,0), 90° = (0,1), 180° = (-1,0), 270° = (0,-1)
-        forward = new Vector2D((float) Math.cos(radians), (float) Math.sin(radians));
-
-        // Right vector is 90° clockwise from forward
-        // If forward is (cos θ, sin θ), then right is (sin θ, -cos θ)
-        // 0° forward (1,0) -> right (0,-1)
-        // 90° forward (0,1) -> right (1,0)
-        right = new Vector2D((float) Math.sin(radians), (float) -Math.cos(radians));
+    private void invalidateDirectionVectors() {
+        forward = null;
+        right = null;
+        up = null;
+        backward = null;
     }
 
     // === Position Methods ===
 
     /**
      * Get the position vector
-     * @return Current position
+     * @return Snapshot of the current position
      */
     public Vector2D getPosition() {
-        return position;
+        return new Vector2D(x, y);
     }
 
     /**
@@ -78,7 +86,22 @@ public class TransformComponent implements IComponent {
      * @param position New position
      */
     public void setPosition(Vector2D position) {
-        this.position = position != null ? position : new Vector2D(0, 0);
+        if (position != null) {
+            setPosition(position.x(), position.y());
+        } else {
+            setPosition(0, 0);
+        }
+    }
+
+    /**
+     * Set the position
+     * @param x New X position
+     * @param y New Y position
+     */
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.interpolating = false;
     }
 
     /**
@@ -86,7 +109,7 @@ public class TransformComponent implements IComponent {
      * @return X position
      */
     public float getX() {
-        return position.x();
+        return x;
     }
 
     /**
@@ -94,7 +117,8 @@ public class TransformComponent implements IComponent {
      * @param x New X position
      */
     public void setX(double x) {
-        this.position = new Vector2D((float) x, position.y());
+        this.x = (float) x;
+        this.interpolating = false;
     }
 
     /**
@@ -102,7 +126,7 @@ public class TransformComponent implements IComponent {
      * @return Y position
      */
     public float getY() {
-        return position.y();
+        return y;
     }
 
     /**
@@ -110,7 +134,8 @@ public class TransformComponent implements IComponent {
      * @param y New Y position
      */
     public void setY(double y) {
-        this.position = new Vector2D(position.x(), (float) y);
+        this.y = (float) y;
+        this.interpolating = false;
     }
 
     /**
@@ -119,7 +144,7 @@ public class TransformComponent implements IComponent {
      */
     public void translate(Vector2D translation) {
         if (translation != null) {
-            this.position = position.add(translation);
+            translate(translation.x(), translation.y());
         }
     }
 
@@ -129,17 +154,96 @@ public class TransformComponent implements IComponent {
      * @param deltaY Amount to move in Y direction
      */
     public void translate(float deltaX, float deltaY) {
-        this.position = position.add(new Vector2D(deltaX, deltaY));
+        this.x += deltaX;
+        this.y += deltaY;
+    }
+
+    // === Interpolation Methods ===
+
+    /**
+     * Remember the current position and rotation as the state before a fixed step.
+     * Call right before stepping the entity on every master fixed tick.
+     */
+    public void storePreviousState() {
+        storePreviousState(0);
+    }
+
+    /**
+     * Remember the current position and rotation as the state before a fixed step.
+     * Call right before stepping the entity.
+     * @param tickRate Tick rate of the stepping system in Hz, so the renderer interpolates over its interval
+     */
+    public void storePreviousState(int tickRate) {
+        this.previousX = x;
+        this.previousY = y;
+        this.previousRotation = rotation;
+        this.stepRate = tickRate;
+        this.interpolating = true;
+    }
+
+    /**
+     * Get the tick rate the entity was last stepped at
+     * @return Tick rate in Hz, or 0 for every master fixed tick
+     */
+    public int getStepRate() {
+        return stepRate;
+    }
+
+    /**
+     * Check if the transform is drawn between its previous and current state
+     * @return true if a previous state was stored since the last teleport
+     */
+    public boolean isInterpolating() {
+        return interpolating;
+    }
+
+    /**
+     * Get the X coordinate to render at
+     * @param alpha Progress from the previous to the current state, 0 to 1
+     * @return Interpolated X position
+     */
+    public float getRenderX(float alpha) {
+        return interpolating ? previousX + (x - previousX) * alpha : x;
+    }
+
+    /**
+     * Get the Y coordinate to render at
+     * @param alpha Progress from the previous to the current state, 0 to 1
+     * @return Interpolated Y position
+     */
+    public float getRenderY(float alpha) {
+        return interpolating ? previousY + (y - previousY) * alpha : y;
+    }
+
+    /**
+     * Get the rotation to render at, turning the short way round
+     * @param alpha Progress from the previous to the current state, 0 to 1
+     * @return Interpolated rotation in degrees
+     */
+    public float getRenderRotation(float alpha) {
+        if (!interpolating) {
+            return rotation;
+        }
+        float delta = ((rotation - previousRotation) % 360 + 540) % 360 - 180;
+        return previousRotation + delta * alpha;
     }
 
     // === Scale Methods ===
 
     /**
      * Get the scale vector
-     * @return Current scale
+     * @return Snapshot of the current scale
      */
     public Vector2D getScale() {
-        return scale;
+        return new Vector2D(scaleX, scaleY);
+    }
+
+    public float getScaleX() {
+        return scaleX;
+    }
+
+    public float getScaleY() {
+        return scaleY;
     }
 
     /**
@@ -147,7 +251,21 @@ public class TransformComponent implements IComponent {
      * @param scale New scale
      */
     public void setScale(Vector2D scale) {
-        this.scale = scale != null ? scale : new Vector2D(1, 1);
+        if (scale != null) {
+            setScale(scale.x(), scale.y());
+        } else {
+            setScale(1, 1);
+        }
+    }
+
+    /**
+     * Set the scale
+     * @param scaleX Scale factor for X
+     * @param scaleY Scale factor for Y
+     */
+    public void setScale(float scaleX, float scaleY) {
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
     }
 
     /**
@@ -155,7 +273,7 @@ public class TransformComponent implements IComponent {
      * @param uniformScale Scale factor for both X and Y
      */
     public void setScale(float uniformScale) {
-        this.scale = new Vector2D(uniformScale, uniformScale);
+        setScale(uniformScale, uniformScale);
     }
 
     /**
@@ -172,7 +290,7 @@ public class TransformComponent implements IComponent {
      */
     public void setRotation(double rotation) {
         this.rotation = normalizeAngle((float) rotation);
-        updateDirectionVectors();
+        invalidateDirectionVectors();
     }
 
     /**
@@ -181,7 +299,7 @@ public class TransformComponent implements IComponent {
      */
     public void rotate(float degrees) {
         this.rotation = normalizeAngle(this.rotation + degrees);
-        updateDirectionVectors();
+        invalidateDirectionVectors();
     }
 
     /**
@@ -202,7 +320,14 @@ public class TransformComponent implements IComponent {
      * @return Unit vector pointing in the direction of rotation
      */
     public Vector2D getForward() {
-        return forward;
+        Vector2D result = forward;
+        if (result == null) {
+            // Forward points in the direction of rotation
+            // 0° = (1,0), 90° = (0,1), 180° = (-1,0), 270° = (0,-1)
+            result = new Vector2D(FastMath.cosDeg(rotation), FastMath.sinDeg(rotation));
+            forward = result;
+        }
+        return result;
     }
 
     /**
@@ -210,7 +335,15 @@ public class TransformComponent implements IComponent {
      * @return Unit vector pointing 90° clockwise from forward
      */
     public Vector2D getRight() {
-        return right;
+        Vector2D result = right;
+        if (result == null) {
+            // Right is 90° clockwise from forward: (cos θ, sin θ) -> (sin θ, -cos θ)
+            // 0° forward (1,0) -> right (0,-1)
+            // 90° forward (0,1) -> right (1,0)
+            result = new Vector2D(FastMath.sinDeg(rotation), -FastMath.cosDeg(rotation));
+            right = result;
+        }
+        return result;
     }
 
     /**
@@ -218,7 +351,13 @@ public class TransformComponent implements IComponent {
      * @return Unit vector pointing 90° counter-clockwise from forward
      */
     public Vector2D getUp() {
-        return new Vector2D(-right.y(), right.x());
+        Vector2D result = up;
+        if (result == null) {
+            Vector2D r = getRight();
+            result = new Vector2D(-r.y(), r.x());
+            up = result;
+        }
+        return result;
     }
 
     /**
@@ -226,7 +365,13 @@ public class TransformComponent implements IComponent {
      * @return Unit vector pointing opposite to forward
      */
     public Vector2D getBackward() {
-        return new Vector2D(-forward.x(), -forward.y());
+        Vector2D result = backward;
+        if (result == null) {
+            Vector2D f = getForward();
+            result = new Vector2D(-f.x(), -f.y());
+            backward = result;
+        }
+        return result;
     }
 
     /**
@@ -234,7 +379,7 @@ public class TransformComponent implements IComponent {
      * @param amount Distance to move forward
      */
     public void moveForward(float amount) {
-        position = position.add(forward.scale(amount));
+        translate(FastMath.cosDeg(rotation) * amount, FastMath.sinDeg(rotation) * amount);
     }
 
     /**
@@ -242,7 +387,7 @@ public class TransformComponent implements IComponent {
      * @param amount Distance to move backward
      */
     public void moveBackward(float amount) {
-        position = position.add(forward.scale(-amount));
+        moveForward(-amount);
     }
 
     /**
@@ -250,7 +395,7 @@ public class TransformComponent implements IComponent {
      * @param amount Distance to move right
      */
     public void moveRight(float amount) {
-        position = position.add(right.scale(amount));
+        translate(FastMath.sinDeg(rotation) * amount, -FastMath.cosDeg(rotation) * amount);
     }
 
     /**
@@ -258,7 +403,7 @@ public class TransformComponent implements IComponent {
      * @param amount Distance to move left
      */
     public void moveLeft(float amount) {
-        position = position.add(right.scale(-amount));
+        moveRight(-amount);
     }
 
     /**
@@ -267,9 +412,11 @@ public class TransformComponent implements IComponent {
      * @param amount Distance to move
      */
     public void moveInDirection(Vector2D direction, float amount) {
-        if (direction != null && direction.magnitude() > 0.001f) {
-            Vector2D normalizedDirection = direction.normalize();
-            position = position.add(normalizedDirection.scale(amount));
+        if (direction != null) {
+            float length = direction.magnitude();
+            if (length > 0.001f) {
+                translate(direction.x() / length * amount, direction.y() / length * amount);
+            }
         }
     }
 
@@ -314,7 +461,9 @@ public class TransformComponent implements IComponent {
         if (other == null) {
             return Float.MAX_VALUE;
         }
-        return position.distance(other.position);
+        float dx = other.x - x;
+        float dy = other.y - y;
+        return (float) Math.sqrt(dx * dx + dy * dy);
     }
 
     /**
@@ -326,8 +475,7 @@ public class TransformComponent implements IComponent {
         if (other == null) {
             return 0;
         }
-        Vector2D direction = other.position.subtract(position);
-        return (float) Math.toDegrees(Math.atan2(direction.y(), direction.x()));
+        return (float) Math.toDegrees(Math.atan2(other.y - y, other.x - x));
     }
 
     // === COULD HAVE BEEN USEFUL ===
@@ -341,8 +489,10 @@ public class TransformComponent implements IComponent {
         if (other == null) {
             return Vector2D.zero();
         }
-        Vector2D direction = other.position.subtract(position);
-        return direction.magnitude() > 0.001f ? direction.normalize() : Vector2D.zero();
+        float dx = other.x - x;
+        float dy = other.y - y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        return length > 0.001f ? new Vector2D(dx / length, dy / length) : Vector2D.zero();
     }
 
     /**
@@ -362,8 +512,7 @@ public class TransformComponent implements IComponent {
      */
     public void lookAt(Vector2D targetPosition) {
         if (targetPosition != null) {
-            Vector2D direction = targetPosition.subtract(position);
-            float angle = (float) Math.toDegrees(Math.atan2(direction.y(), direction.x()));
+            float angle = (float) Math.toDegrees(Math.atan2(targetPosition.y() - y, targetPosition.x() - x));
             setRotation(angle);
         }
     }
@@ -371,6 +520,6 @@ public class TransformComponent implements IComponent {
     @Override
     public String toString() {
         return String.format("Transform[pos=%.2f,%.2f rot=%.1f° scale=%.2f,%.2f radius=%.2f]",
-                position.x(), position.y(), rotation, scale.x(), scale.y(), radius);
+                x, y, rotation, scaleX, scaleY, radius);
     }
 }
\ No newline at end of file
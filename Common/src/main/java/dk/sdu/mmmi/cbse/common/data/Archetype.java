@@ -0,0 +1,145 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A unique set of component types, identified by its signature.
+ * All entities with exactly this component set are stored together in the archetype's chunks.
+ */
+public final class Archetype {
+    private final long signature;
+    private final Class<? extends IComponent>[] types;
+    private final byte[] columnById = new byte[ComponentTypes.MAX_TYPES];
+    private final List<Chunk> chunks = new CopyOnWriteArrayList<>();
+    private final List<Chunk> chunksView = Collections.unmodifiableList(chunks);
+
+    // Transitions to neighbouring archetypes by type ID, only touched while holding the storage lock
+    private final Archetype[] addEdges = new Archetype[ComponentTypes.MAX_TYPES];
+    private final Archetype[] removeEdges = new Archetype[ComponentTypes.MAX_TYPES];
+
+    @SuppressWarnings("unchecked")
+    Archetype(long signature) {
+        this.signature = signature;
+        this.types = new Class[Long.bitCount(signature)];
+        Arrays.fill(columnById, (byte) -1);
+
+        int column = 0;
+        for (long bits = signature; bits != 0; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            types[column] = ComponentTypes.type(id);
+            columnById[id] = (byte) column++;
+        }
+    }
+
+    /**
+     * Get the signature of this archetype, one bit per component type ID
+     * @return Component mask
+     */
+    public long getSignature() {
+        return signature;
+    }
+
+    /**
+     * Get the component types of this archetype
+     * @return Component types, ordered by type ID
+     */
+    public List<Class<? extends IComponent>> getComponentTypes() {
+        return List.of(types);
+    }
+
+    /**
+     * Check if this archetype contains a component type
+     * @param componentType Component class
+     * @return true if entities in this archetype have the component
+     */
+    public boolean has(Class<?> componentType) {
+        return (signature & ComponentTypes.bit(componentType)) != 0;
+    }
+
+    /**
+     * Check if this archetype contains all given component types
+     * @param componentTypes Component classes
+     * @return true if every type is present
+     */
+    public boolean hasAll(Class<?>... componentTypes) {
+        return matches(ComponentTypes.mask(componentTypes));
+    }
+
+    /**
+     * Check if this archetype contains every component type in a mask
+     * @param mask Component mask, see {@link ComponentTypes#mask(Class[])}
+     * @return true if all bits of the mask are set in the signature
+     */
+    public boolean matches(long mask) {
+        return (signature & mask) == mask;
+    }
+
+    /**
+     * Get the chunks of this archetype. Only the last chunk may be partially filled.
+     * @return Read-only chunk list
+     */
+    public List<Chunk> getChunks() {
+        return chunksView;
+    }
+
+    /**
+     * Get the number of entities in this archetype
+     * @return Entity count
+     */
+    public int size() {
+        int size = 0;
+        for (Chunk chunk : chunks) {
+            size += chunk.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "Archetype" + Arrays.stream(types).map(Class::getSimpleName).toList();
+    }
+
+    Class<? extends IComponent>[] types() {
+        return types;
+    }
+
+    int columnOf(Class<?> componentType) {
+        return columnById[ComponentTypes.id(componentType)];
+    }
+
+    int columnOf(int id) {
+        return columnById[id];
+    }
+
+    Archetype[] addEdges() {
+        return addEdges;
+    }
+
+    Archetype[] removeEdges() {
+        return removeEdges;
+    }
+
+    List<Chunk> chunks() {
+        return chunks;
+    }
+
+    /**
+     * Get a chunk with a free row, creating one if every chunk is full
+     */
+    Chunk chunkWithSpace() {
+        if (!chunks.isEmpty()) {
+            Chunk last = chunks.get(chunks.size() - 1);
+            if (!last.isFull()) {
+                return last;
+            }
+        }
+        Chunk chunk = new Chunk(this);
+        chunks.add(chunk);
+        return chunk;
+    }
+}
@@ -0,0 +1,247 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Archetype storage engine backing a {@link World}.
+ * Entities are grouped by their exact component set and packed into chunks.
+ * Archetypes and queries are keyed by component signature, see {@link ComponentTypes}.
+ * <p>
+ * Structural changes (attach, detach, adding or removing a component type) are serialized
+ * on this storage. Component reads go through {@link Entity} without locking.
+ */
+final class ArchetypeStorage {
+    private static final Logger LOGGER = Logger.getLogger(ArchetypeStorage.class.getName());
+
+    private final Map<Long, Archetype> archetypeIndex = new HashMap<>();
+    private final List<Archetype> archetypes = new CopyOnWriteArrayList<>();
+    private final List<Archetype> archetypesView = Collections.unmodifiableList(archetypes);
+    private final Map<Long, Query> queries = new ConcurrentHashMap<>();
+    private final Listener listener;
+
+    /**
+     * Callback for components entering or leaving the storage, invoked while holding the storage lock
+     */
+    interface Listener {
+        void componentAdded(Entity entity, IComponent component);
+
+        void componentRemoved(Entity entity, IComponent component);
+    }
+
+    ArchetypeStorage(Listener listener) {
+        this.listener = listener;
+    }
+
+    List<Archetype> getArchetypes() {
+        return archetypesView;
+    }
+
+    /**
+     * Move an entity's components from its local array into this storage.
+     */
+    void attach(Entity entity) {
+        ArchetypeStorage previous = entity.storage();
+        if (previous != null && previous != this) {
+            LOGGER.log(Level.FINE, "Entity {0} moved between worlds", entity);
+            previous.detach(entity);
+        }
+
+        synchronized (this) {
+            if (entity.storage() == this) {
+                return;
+            }
+            IComponent[] components = entity.detachedComponents();
+            Archetype archetype = getOrCreateArchetype(entity.getSignature());
+
+            Chunk chunk = archetype.chunkWithSpace();
+            int row = chunk.append(entity);
+            int columns = 0;
+            for (long bits = archetype.getSignature(); bits != 0; bits &= bits - 1) {
+                chunk.set(row, columns++, components[Long.numberOfTrailingZeros(bits)]);
+            }
+            entity.attached(this, chunk, row);
+
+            for (int c = 0; c < columns; c++) {
+                listener.componentAdded(entity, chunk.get(row, c));
+            }
+        }
+    }
+
+    /**
+     * Move an entity's components out of this storage and back into its local array.
+     */
+    synchronized void detach(Entity entity) {
+        if (entity.storage() != this) {
+            return;
+        }
+        Chunk chunk = entity.chunk();
+        int row = entity.row();
+
+        IComponent[] components = new IComponent[ComponentTypes.MAX_TYPES];
+        int column = 0;
+        for (long bits = chunk.getArchetype().getSignature(); bits != 0; bits &= bits - 1) {
+            IComponent component = chunk.get(row, column++);
+            components[Long.numberOfTrailingZeros(bits)] = component;
+            listener.componentRemoved(entity, component);
+        }
+        entity.detached(components);
+        removeRow(chunk, row);
+    }
+
+    /**
+     * Add or replace a component, migrating the entity if its component set changes.
+     */
+    synchronized void addComponent(Entity entity, IComponent component) {
+        if (entity.storage() != this) {
+            entity.addComponent(component);
+            return;
+        }
+        Chunk chunk = entity.chunk();
+        int row = entity.row();
+        Archetype source = chunk.getArchetype();
+        int id = ComponentTypes.id(component.getClass());
+
+        int column = source.columnOf(id);
+        if (column >= 0) {
+            IComponent replaced = chunk.get(row, column);
+            chunk.set(row, column, component);
+            if (replaced != component) {
+                listener.componentRemoved(entity, replaced);
+                listener.componentAdded(entity, component);
+            }
+            return;
+        }
+
+        Archetype target = source.addEdges()[id];
+        if (target == null) {
+            target = getOrCreateArchetype(source.getSignature() | 1L << id);
+            source.addEdges()[id] = target;
+        }
+
+        Chunk targetChunk = migrate(entity, chunk, row, target);
+        targetChunk.set(entity.row(), target.columnOf(id), component);
+        listener.componentAdded(entity, component);
+    }
+
+    /**
+     * Remove a component, migrating the entity to the smaller archetype.
+     */
+    synchronized boolean removeComponent(Entity entity, Class<?> componentType) {
+        if (entity.storage() != this) {
+            return entity.removeComponent(componentType.asSubclass(IComponent.class));
+        }
+        Chunk chunk = entity.chunk();
+        Archetype source = chunk.getArchetype();
+        int id = ComponentTypes.id(componentType);
+        int column = source.columnOf(id);
+        if (column < 0 || !componentType.isInstance(chunk.get(entity.row(), column))) {
+            return false;
+        }
+
+        Archetype target = source.removeEdges()[id];
+        if (target == null) {
+            target = getOrCreateArchetype(source.getSignature() & ~(1L << id));
+            source.removeEdges()[id] = target;
+        }
+
+        IComponent removed = chunk.get(entity.row(), column);
+        migrate(entity, chunk, entity.row(), target);
+        listener.componentRemoved(entity, removed);
+        return true;
+    }
+
+    /**
+     * Read a component while holding the storage lock. Used when a lock-free read raced a move.
+     */
+    synchronized IComponent getComponent(Entity entity, int id) {
+        if (entity.storage() != this) {
+            return entity.getComponent(ComponentTypes.type(id));
+        }
+        return entity.chunk().getById(entity.row(), id);
+    }
+
+    private Chunk migrate(Entity entity, Chunk sourceChunk, int sourceRow, Archetype target) {
+        Archetype source = sourceChunk.getArchetype();
+        Chunk targetChunk = target.chunkWithSpace();
+        int targetRow = targetChunk.append(entity);
+
+        int column = 0;
+        for (long bits = target.getSignature(); bits != 0; bits &= bits - 1) {
+            int sourceColumn = source.columnOf(Long.numberOfTrailingZeros(bits));
+            if (sourceColumn >= 0) {
+                targetChunk.set(targetRow, column, sourceChunk.get(sourceRow, sourceColumn));
+            }
+            column++;
+        }
+
+        entity.attached(this, targetChunk, targetRow);
+        removeRow(sourceChunk, sourceRow);
+        return targetChunk;
+    }
+
+    /**
+     * Fill a hole by moving the archetype's last row into it, keeping every chunk but the last full.
+     */
+    private void removeRow(Chunk chunk, int row) {
+        List<Chunk> chunks = chunk.getArchetype().chunks();
+        Chunk last = chunks.get(chunks.size() - 1);
+        int lastRow = last.size() - 1;
+
+        if (last != chunk || lastRow != row) {
+            chunk.copyRow(row, last, lastRow);
+            chunk.getEntity(row).attached(this, chunk, row);
+        }
+        last.truncate();
+
+        if (last.size() == 0 && chunks.size() > 1) {
+            chunks.remove(chunks.size() - 1);
+        }
+    }
+
+    private Archetype getOrCreateArchetype(long signature) {
+        Archetype archetype = archetypeIndex.get(signature);
+        if (archetype == null) {
+            archetype = new Archetype(signature);
+            archetypeIndex.put(signature, archetype);
+            archetypes.add(archetype);
+            for (Query query : queries.values()) {
+                query.offer(archetype);
+            }
+            LOGGER.log(Level.FINE, "Created {0}", archetype);
+        }
+        return archetype;
+    }
+
+    /**
+     * Get the cached query for a component set, creating it on first use.
+     */
+    Query query(Class<?>... required) {
+        long mask = ComponentTypes.mask(required);
+        Query query = queries.get(mask);
+        if (query != null) {
+            return query;
+        }
+
+        synchronized (this) {
+            query = queries.get(mask);
+            if (query == null) {
+                query = new Query(mask);
+                for (Archetype archetype : archetypes) {
+                    query.offer(archetype);
+                }
+                queries.put(mask, query);
+                LOGGER.log(Level.FINE, "Created query for {0}", query.getRequiredTypes());
+            }
+            return query;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.lang.reflect.Array;
+
+/**
+ * Fixed-capacity block of entities sharing one archetype.
+ * Components are stored column-wise, one typed array per component type,
+ * so a system can walk a column directly instead of looking up each entity.
+ * <p>
+ * Rows {@code [0, size())} are always densely packed. Iteration from another
+ * thread is weakly consistent; a row may be {@code null} while it is being moved.
+ */
+public final class Chunk {
+    /** Number of entities stored per chunk */
+    public static final int CAPACITY = 128;
+
+    private final Archetype archetype;
+    private final Entity[] entities = new Entity[CAPACITY];
+    private final IComponent[][] columns;
+    private volatile int size;
+
+    Chunk(Archetype archetype) {
+        this.archetype = archetype;
+        Class<? extends IComponent>[] types = archetype.types();
+        this.columns = new IComponent[types.length][];
+        for (int i = 0; i < types.length; i++) {
+            columns[i] = (IComponent[]) Array.newInstance(types[i], CAPACITY);
+        }
+    }
+
+    /**
+     * Get the archetype this chunk belongs to
+     * @return Owning archetype
+     */
+    public Archetype getArchetype() {
+        return archetype;
+    }
+
+    /**
+     * Get the number of occupied rows
+     * @return Row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the entity stored at a row
+     * @param row Row index
+     * @return Entity or null if the row is empty
+     */
+    public Entity getEntity(int row) {
+        return entities[row];
+    }
+
+    /**
+     * Get the backing column for a component type.
+     * Only indices below {@link #size()} hold live components.
+     * @param componentType Component class
+     * @param <T> Component type
+     * @return Column array, or null if the archetype lacks the component
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IComponent> T[] getColumn(Class<T> componentType) {
+        int column = archetype.columnOf(componentType);
+        return column < 0 ? null : (T[]) columns[column];
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends IComponent> T get(int row, Class<T> componentType) {
+        int column = archetype.columnOf(componentType);
+        return column < 0 ? null : (T) columns[column][row];
+    }
+
+    IComponent getById(int row, int id) {
+        int column = archetype.columnOf(id);
+        return column < 0 ? null : columns[column][row];
+    }
+
+    IComponent get(int row, int column) {
+        return columns[column][row];
+    }
+
+    void set(int row, int column, IComponent component) {
+        columns[column][row] = component;
+    }
+
+    boolean isFull() {
+        return size == CAPACITY;
+    }
+
+    /**
+     * Append an entity with empty component slots.
+     * @return The row the entity was placed in
+     */
+    int append(Entity entity) {
+        int row = size;
+        entities[row] = entity;
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * Drop the last row, clearing references so components can be collected.
+     */
+    void truncate() {
+        int row = size - 1;
+        size = row;
+        entities[row] = null;
+        for (IComponent[] column : columns) {
+            column[row] = null;
+        }
+    }
+
+    /**
+     * Overwrite a row with the contents of another row, possibly in another chunk
+     * of the same archetype.
+     */
+    void copyRow(int row, Chunk source, int sourceRow) {
+        entities[row] = source.entities[sourceRow];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c][row] = source.columns[c][sourceRow];
+        }
+    }
+}
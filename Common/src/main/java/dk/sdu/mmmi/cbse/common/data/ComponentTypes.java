@@ -0,0 +1,122 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry assigning every component type a small integer ID.
+ * <p>
+ * IDs index the per-archetype column tables and are the bit positions of entity signatures,
+ * so "has Transform, Collider and Physics" is a single mask test. Types are registered on first use.
+ * <p>
+ * A component class extending another component class shares its parent's ID. An entity holds
+ * at most one of them, and looking up the parent type also finds subclass instances.
+ */
+public final class ComponentTypes {
+    private static final Logger LOGGER = Logger.getLogger(ComponentTypes.class.getName());
+
+    /** Maximum number of component types, one per signature bit */
+    public static final int MAX_TYPES = Long.SIZE;
+
+    private static final ClassValue<Integer> IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return assign(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private static volatile Class<? extends IComponent>[] types = new Class[0];
+
+    private ComponentTypes() {
+
+    }
+
+    /**
+     * Get the ID of a component type, registering it if needed
+     * @param componentType Component class
+     * @return Type ID in {@code [0, MAX_TYPES)}
+     * @throws IllegalArgumentException if the class is not a component
+     * @throws IllegalStateException if more than {@link #MAX_TYPES} types are registered
+     */
+    public static int id(Class<?> componentType) {
+        return IDS.get(componentType);
+    }
+
+    /**
+     * Get the signature bit of a component type
+     * @param componentType Component class
+     * @return Single-bit mask
+     */
+    public static long bit(Class<?> componentType) {
+        return 1L << IDS.get(componentType);
+    }
+
+    /**
+     * Build a signature mask from component types
+     * @param componentTypes Component classes
+     * @return Mask with one bit per type
+     */
+    public static long mask(Class<?>... componentTypes) {
+        long mask = 0L;
+        for (Class<?> componentType : componentTypes) {
+            mask |= 1L << IDS.get(componentType);
+        }
+        return mask;
+    }
+
+    /**
+     * Get the component type registered under an ID
+     * @param id Type ID
+     * @return The base component class for the ID
+     */
+    public static Class<? extends IComponent> type(int id) {
+        return types[id];
+    }
+
+    /**
+     * Get the number of registered component types
+     * @return Registered type count
+     */
+    public static int count() {
+        return types.length;
+    }
+
+    private static int assign(Class<?> componentType) {
+        if (!IComponent.class.isAssignableFrom(componentType)) {
+            throw new IllegalArgumentException(componentType.getName() + " is not a component type");
+        }
+
+        Class<?> base = componentType;
+        while (base.getSuperclass() != null && IComponent.class.isAssignableFrom(base.getSuperclass())) {
+            base = base.getSuperclass();
+        }
+        if (base != componentType) {
+            return IDS.get(base);
+        }
+
+        synchronized (ComponentTypes.class) {
+            // ClassValue may compute concurrently, so check for a racing registration
+            Class<? extends IComponent>[] current = types;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == componentType) {
+                    return i;
+                }
+            }
+            if (current.length == MAX_TYPES) {
+                throw new IllegalStateException("Cannot register " + componentType.getName()
+                        + ", at most " + MAX_TYPES + " component types are supported");
+            }
+
+            Class<? extends IComponent>[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = componentType.asSubclass(IComponent.class);
+            types = grown;
+            LOGGER.log(Level.FINE, "Registered component type {0} as {1}",
+                    new Object[]{componentType.getSimpleName(), current.length});
+            return current.length;
+        }
+    }
+}
@@ -2,29 +2,72 @@ package dk.sdu.mmmi.cbse.common.data;
 
 import dk.sdu.mmmi.cbse.common.components.IComponent;
 
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Base entity class for the components-based design.
+ * <p>
+ * While an entity is not part of a {@link World} its components live in a local array
+ * indexed by type ID. Once added to a world the components are moved into the world's
+ * archetype chunks and this class acts as a facade over that storage.
+ * <p>
+ * The entity's {@link #getSignature() signature} has one bit set per component type it holds,
+ * see {@link ComponentTypes}.
+ * <p>
+ * Game code should identify entities by {@link #getHandle()}. The string ID is only meant for logs.
  */
 public class Entity {
-    private final UUID id = UUID.randomUUID();
-    private final Map<Class<?>, IComponent> components = new ConcurrentHashMap<>();
+    private static final AtomicLong SERIALS = new AtomicLong(1);
+    private static final int INITIAL_SLOTS = 16;
+
+    private final long serial = SERIALS.getAndIncrement();
+    private String id;
+
+    // Handle in the world this entity belongs to
+    private volatile long handle = EntityHandle.NULL;
+
+    // Local components by type ID while detached, null while stored in a world
+    private volatile IComponent[] components = new IComponent[INITIAL_SLOTS];
+    private volatile long signature;
+
+    // Location in archetype storage while attached
+    private volatile ArchetypeStorage storage;
+    private volatile Chunk chunk;
+    private volatile int row;
+
+    // Owning pool, if the entity was obtained from one
+    private volatile EntityPool pool;
+    private volatile boolean pooled;
 
     public Entity() {
 
     }
 
     /**
-     * Get the ID for this entity
-     * @return ID string
+     * Get a readable ID for this entity, intended for logging and debugging
+     * @return ID string, unique within this process
      */
-    // ToDo: Ensure this returns an UUID.
     public String getID() {
-        return id.toString();
+        String cached = id;
+        if (cached == null) {
+            cached = Long.toString(serial);
+            id = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Get the handle of this entity in its world
+     * @return Packed index and generation, or {@link EntityHandle#NULL} if not in a world
+     */
+    public long getHandle() {
+        return handle;
+    }
+
+    void setHandle(long handle) {
+        this.handle = handle;
     }
 
     /**
@@ -35,8 +78,25 @@ public class Entity {
      */
     public <T extends IComponent> void addComponent(T component) {
         Objects.requireNonNull(component, "Component cannot be null");
-        Class<?> componentClass = component.getClass();
-        components.put(componentClass, component);
+        while (true) {
+            ArchetypeStorage owner = storage;
+            if (owner != null) {
+                owner.addComponent(this, component);
+                return;
+            }
+            IComponent[] local = components;
+            if (local != null) {
+                int id = ComponentTypes.id(component.getClass());
+                if (id >= local.length) {
+                    local = Arrays.copyOf(local, ComponentTypes.MAX_TYPES);
+                    components = local;
+                }
+                local[id] = component;
+                signature |= 1L << id;
+                return;
+            }
+            Thread.onSpinWait(); // attach in progress
+        }
     }
 
     /**
@@ -46,10 +106,29 @@ public class Entity {
      * @return The components if present, null otherwise
      * @throws NullPointerException if componentType is null
      */
-    @SuppressWarnings("unchecked")
     public <T extends IComponent> T getComponent(Class<T> componentType) {
         Objects.requireNonNull(componentType, "Component type cannot be null");
-        return (T) components.get(componentType);
+        int id = ComponentTypes.id(componentType);
+        while (true) {
+            Chunk current = chunk;
+            if (current != null) {
+                int currentRow = row;
+                IComponent component = current.getById(currentRow, id);
+                if (current.getEntity(currentRow) == this) {
+                    return cast(componentType, component);
+                }
+            }
+            IComponent[] local = components;
+            if (local != null) {
+                return id < local.length ? cast(componentType, local[id]) : null;
+            }
+            ArchetypeStorage owner = storage;
+            if (owner != null) {
+                // Raced a structural change, read again under the storage lock
+                return cast(componentType, owner.getComponent(this, id));
+            }
+            Thread.onSpinWait();
+        }
     }
 
     /**
@@ -61,7 +140,23 @@ public class Entity {
      */
     public <T extends IComponent> boolean removeComponent(Class<T> componentType) {
         Objects.requireNonNull(componentType, "Component type cannot be null");
-        return components.remove(componentType) != null;
+        while (true) {
+            ArchetypeStorage owner = storage;
+            if (owner != null) {
+                return owner.removeComponent(this, componentType);
+            }
+            IComponent[] local = components;
+            if (local != null) {
+                int id = ComponentTypes.id(componentType);
+                if (id >= local.length || local[id] == null || !componentType.isInstance(local[id])) {
+                    return false;
+                }
+                local[id] = null;
+                signature &= ~(1L << id);
+                return true;
+            }
+            Thread.onSpinWait();
+        }
     }
 
     /**
@@ -73,7 +168,30 @@ public class Entity {
      */
     public <T extends IComponent> boolean hasComponent(Class<T> componentType) {
         Objects.requireNonNull(componentType, "Component type cannot be null");
-        return components.containsKey(componentType);
+        long bit = ComponentTypes.bit(componentType);
+        if ((signature & bit) == 0) {
+            return false;
+        }
+        // Subclass lookups share the parent's bit, so check the stored instance
+        return ComponentTypes.type(ComponentTypes.id(componentType)) == componentType
+                || getComponent(componentType) != null;
+    }
+
+    /**
+     * Check if this entity has every component type in a mask
+     * @param mask Component mask, see {@link ComponentTypes#mask(Class[])}
+     * @return true if all component types are present
+     */
+    public boolean hasComponents(long mask) {
+        return (signature & mask) == mask;
+    }
+
+    /**
+     * Get the signature of this entity
+     * @return Mask with one bit set per component type ID
+     */
+    public long getSignature() {
+        return signature;
     }
 
     /**
@@ -81,7 +199,73 @@ public class Entity {
      * @return The components count
      */
     public int getComponentCount() {
-        return components.size();
+        return Long.bitCount(signature);
+    }
+
+    /**
+     * Get the archetype this entity is stored in
+     * @return Archetype, or null if the entity is not part of a world
+     */
+    public Archetype getArchetype() {
+        Chunk current = chunk;
+        return current != null ? current.getArchetype() : null;
+    }
+
+    EntityPool pool() {
+        return pool;
+    }
+
+    void setPool(EntityPool pool) {
+        this.pool = pool;
+    }
+
+    boolean isPooled() {
+        return pooled;
+    }
+
+    void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    ArchetypeStorage storage() {
+        return storage;
+    }
+
+    Chunk chunk() {
+        return chunk;
+    }
+
+    int row() {
+        return row;
+    }
+
+    IComponent[] detachedComponents() {
+        return components;
+    }
+
+    /**
+     * Record a new storage location. Called by the storage while holding its lock.
+     */
+    void attached(ArchetypeStorage owner, Chunk newChunk, int newRow) {
+        row = newRow;
+        chunk = newChunk;
+        signature = newChunk.getArchetype().getSignature();
+        storage = owner;
+        components = null;
+    }
+
+    /**
+     * Hand components back to the entity. Called by the storage while holding its lock.
+     */
+    void detached(IComponent[] local) {
+        components = local;
+        storage = null;
+        chunk = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends IComponent> T cast(Class<T> componentType, IComponent component) {
+        return componentType.isInstance(component) ? (T) component : null;
     }
 
     // Not needed?
@@ -90,12 +274,17 @@ public class Entity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Entity entity = (Entity) o;
-        return id.equals(entity.id);
+        return serial == entity.serial;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(serial);
     }
 
     // Not needed?
     @Override
     public String toString() {
-        return "Entity[" + id + "]";
+        return "Entity[" + serial + "]";
     }
-}
\ No newline at end of file
+}
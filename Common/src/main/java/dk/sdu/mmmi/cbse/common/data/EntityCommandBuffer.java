@@ -0,0 +1,155 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records structural changes to a {@link World} and applies them later in bulk.
+ * <p>
+ * Systems that create or destroy entities while iterating, or from event callbacks,
+ * record the change here instead. The game loop plays the buffer back at its sync points,
+ * so every system sees a stable set of entities for the duration of its phase.
+ * <p>
+ * Recording is lock-free and safe from any number of threads. Commands are applied
+ * in the order they were recorded. Removals target the handle the entity had when recorded,
+ * so a pooled entity that was recycled in the meantime is left alone.
+ */
+public final class EntityCommandBuffer {
+    private static final Logger LOGGER = Logger.getLogger(EntityCommandBuffer.class.getName());
+
+    private final World world;
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private enum Kind {
+        ADD_ENTITY,
+        REMOVE_ENTITY,
+        ADD_COMPONENT,
+        REMOVE_COMPONENT
+    }
+
+    private record Command(Kind kind, Entity entity, long handle, IComponent component,
+                           Class<? extends IComponent> componentType) {
+    }
+
+    EntityCommandBuffer(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Record adding an entity to the world
+     * @param entity Entity to add
+     */
+    public void addEntity(Entity entity) {
+        record(new Command(Kind.ADD_ENTITY, Objects.requireNonNull(entity, "Entity cannot be null"), EntityHandle.NULL, null, null));
+    }
+
+    /**
+     * Record removing an entity from the world
+     * @param entity Entity to remove
+     */
+    public void removeEntity(Entity entity) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+        record(new Command(Kind.REMOVE_ENTITY, entity, entity.getHandle(), null, null));
+    }
+
+    /**
+     * Record adding or replacing a component on an entity
+     * @param entity Target entity
+     * @param component Component to add
+     */
+    public void addComponent(Entity entity, IComponent component) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+        Objects.requireNonNull(component, "Component cannot be null");
+        record(new Command(Kind.ADD_COMPONENT, entity, EntityHandle.NULL, component, null));
+    }
+
+    /**
+     * Record removing a component from an entity
+     * @param entity Target entity
+     * @param componentType Class of the component to remove
+     */
+    public void removeComponent(Entity entity, Class<? extends IComponent> componentType) {
+        Objects.requireNonNull(entity, "Entity cannot be null");
+        Objects.requireNonNull(componentType, "Component type cannot be null");
+        record(new Command(Kind.REMOVE_COMPONENT, entity, EntityHandle.NULL, null, componentType));
+    }
+
+    /**
+     * Get the number of recorded commands not yet applied
+     * @return Pending command count
+     */
+    public int size() {
+        return pending.get();
+    }
+
+    public boolean isEmpty() {
+        return pending.get() == 0;
+    }
+
+    /**
+     * Apply all commands recorded before this call.
+     * Commands recorded while playing back, e.g. by listeners reacting to a change,
+     * are left for the next playback.
+     * @return Number of commands applied
+     */
+    public int playback() {
+        int budget = pending.get();
+        int applied = 0;
+        while (applied < budget) {
+            Command command = commands.poll();
+            if (command == null) {
+                break;
+            }
+            pending.decrementAndGet();
+            applied++;
+
+            try {
+                apply(command);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Failed to apply " + command.kind() + " for entity " + command.entity().getID(), e);
+            }
+        }
+
+        if (applied > 0 && LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.log(Level.FINEST, "Applied {0} entity commands", applied);
+        }
+        return applied;
+    }
+
+    /**
+     * Drop all pending commands without applying them
+     */
+    public void clear() {
+        while (commands.poll() != null) {
+            pending.decrementAndGet();
+        }
+    }
+
+    private void record(Command command) {
+        pending.incrementAndGet();
+        commands.add(command);
+    }
+
+    private void apply(Command command) {
+        switch (command.kind()) {
+            case ADD_ENTITY -> world.addEntity(command.entity());
+            case REMOVE_ENTITY -> {
+                // Entities recorded before being added have no handle yet
+                if (command.handle() != EntityHandle.NULL) {
+                    world.removeEntity(command.handle());
+                } else {
+                    world.removeEntity(command.entity());
+                }
+            }
+            case ADD_COMPONENT -> command.entity().addComponent(command.component());
+            case REMOVE_COMPONENT -> command.entity().removeComponent(command.componentType());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+/**
+ * Helpers for packed entity handles.
+ * A handle stores a slot index in the low 32 bits and a generation in the high 32 bits.
+ * Generations start at 1, so {@link #NULL} never refers to a live entity, and a slot that is
+ * reused after removal gets a new generation so stale handles no longer resolve.
+ */
+public final class EntityHandle {
+    /** Handle of an entity that is not part of a world */
+    public static final long NULL = 0L;
+
+    private EntityHandle() {
+
+    }
+
+    /**
+     * Pack an index and generation into a handle
+     * @param index Slot index
+     * @param generation Slot generation
+     * @return Packed handle
+     */
+    public static long of(int index, int generation) {
+        return ((long) generation << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the slot index of a handle
+     * @param handle Packed handle
+     * @return Slot index
+     */
+    public static int index(long handle) {
+        return (int) handle;
+    }
+
+    /**
+     * Get the generation of a handle
+     * @param handle Packed handle
+     * @return Slot generation
+     */
+    public static int generation(long handle) {
+        return (int) (handle >>> 32);
+    }
+
+    /**
+     * Format a handle for logging
+     * @param handle Packed handle
+     * @return Readable handle, e.g. "12v3"
+     */
+    public static String toString(long handle) {
+        return handle == NULL ? "null" : index(handle) + "v" + generation(handle);
+    }
+}
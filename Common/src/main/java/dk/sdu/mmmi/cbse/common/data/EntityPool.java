@@ -0,0 +1,166 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of recycled entities built from one prefab.
+ * <p>
+ * {@link #obtain()} hands out a pooled entity with its components still attached, or builds a new
+ * one from the prefab. The caller then configures the components for the new use. When a pooled
+ * entity is removed from its {@link World} it is returned here automatically: components added
+ * after creation are stripped and the registered reset hooks run on the remaining ones.
+ * <p>
+ * Entities whose prefab components were removed during their life are not recycled.
+ */
+public final class EntityPool {
+    private static final Logger LOGGER = Logger.getLogger(EntityPool.class.getName());
+
+    private final String name;
+    private final Supplier<Entity> prefab;
+    private final int capacity;
+    private final Deque<Entity> free = new ArrayDeque<>();
+    private final List<ResetHook<?>> resetHooks = new CopyOnWriteArrayList<>();
+
+    private volatile long prefabSignature;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    private record ResetHook<T extends IComponent>(Class<T> componentType, Consumer<? super T> hook) {
+        void reset(Entity entity) {
+            T component = entity.getComponent(componentType);
+            if (component != null) {
+                hook.accept(component);
+            }
+        }
+    }
+
+    /**
+     * Create a pool
+     * @param name Pool name for logging
+     * @param prefab Builds a fresh entity with every component the pooled entities carry
+     * @param capacity Maximum number of idle entities kept
+     */
+    public EntityPool(String name, Supplier<Entity> prefab, int capacity) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.prefab = Objects.requireNonNull(prefab, "Prefab cannot be null");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Register a hook that resets a component when its entity returns to the pool
+     * @param componentType Component class
+     * @param hook Reset action
+     * @param <T> Component type
+     * @return This pool for method chaining
+     */
+    public <T extends IComponent> EntityPool onRelease(Class<T> componentType, Consumer<? super T> hook) {
+        resetHooks.add(new ResetHook<>(componentType, hook));
+        return this;
+    }
+
+    /**
+     * Get an idle entity or build a new one from the prefab
+     * @return Entity that is not part of any world
+     */
+    public Entity obtain() {
+        synchronized (free) {
+            Entity entity = free.pollFirst();
+            if (entity != null) {
+                entity.setPooled(false);
+                reused.incrementAndGet();
+                return entity;
+            }
+        }
+
+        Entity entity = prefab.get();
+        if (created.getAndIncrement() == 0) {
+            prefabSignature = entity.getSignature();
+        }
+        entity.setPool(this);
+        return entity;
+    }
+
+    /**
+     * Return an entity to the pool. Called by {@link World} when a pooled entity is removed.
+     * @param entity Entity obtained from this pool
+     * @return true if the entity was kept for reuse
+     */
+    public boolean release(Entity entity) {
+        if (entity.pool() != this || entity.isPooled() || entity.getHandle() != EntityHandle.NULL) {
+            return false;
+        }
+
+        long signature = entity.getSignature();
+        if ((signature & prefabSignature) != prefabSignature) {
+            // Lost a prefab component, let it be collected
+            entity.setPool(null);
+            return false;
+        }
+        for (long extra = signature & ~prefabSignature; extra != 0; extra &= extra - 1) {
+            entity.removeComponent(ComponentTypes.type(Long.numberOfTrailingZeros(extra)));
+        }
+
+        for (ResetHook<?> hook : resetHooks) {
+            try {
+                hook.reset(entity);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Reset hook failed in pool " + name + ", discarding entity", e);
+                entity.setPool(null);
+                return false;
+            }
+        }
+
+        synchronized (free) {
+            if (free.size() >= capacity) {
+                entity.setPool(null);
+                return false;
+            }
+            entity.setPooled(true);
+            free.addFirst(entity);
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of idle entities
+     * @return Idle entity count
+     */
+    public int available() {
+        synchronized (free) {
+            return free.size();
+        }
+    }
+
+    /**
+     * Get the number of entities built from the prefab
+     * @return Created entity count
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Get the number of times an idle entity was handed out again
+     * @return Reuse count
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+
+    @Override
+    public String toString() {
+        return "EntityPool[" + name + ", available=" + available() + ", created=" + created.get()
+                + ", reused=" + reused.get() + "]";
+    }
+}
@@ -10,6 +10,10 @@ public class GameData {
     private int displayHeight = 600;
 
     private float deltaTime;
+    private int fixedSteps;
+    private float interpolationAlpha;
+    private int masterTickRate;
+    private long fixedTicks;
 
     private boolean debugMode = false;
 
@@ -67,6 +71,71 @@ public class GameData {
         this.deltaTime = deltaTime;
     }
 
+    /**
+     * Get the number of fixed master clock ticks run during the last frame.
+     * Systems with a lower tick rate than the master clock run on only some of them.
+     *
+     * @return Fixed steps in the last frame
+     */
+    public int getFixedSteps() {
+        return fixedSteps;
+    }
+
+    /**
+     * Set the number of fixed update steps run during the last frame
+     *
+     * @param fixedSteps Fixed steps in the last frame
+     */
+    public void setFixedSteps(int fixedSteps) {
+        this.fixedSteps = fixedSteps;
+    }
+
+    /**
+     * Get how far the simulation is between the last fixed tick and the next one
+     *
+     * @return Progress towards the next tick, 0 to 1
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /**
+     * Set how far the simulation is between the last fixed tick and the next one
+     *
+     * @param interpolationAlpha Progress towards the next tick, 0 to 1
+     */
+    public void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    /**
+     * Get how far the simulation is between the last and the next tick of a system with its own tick rate.
+     * A system slower than the master clock only steps every few master ticks, so its alpha also counts
+     * the master ticks run since its last step.
+     *
+     * @param tickRate Tick rate of the system in Hz, or 0 for the master clock
+     * @return Progress towards the system's next tick, 0 to 1
+     */
+    public float getInterpolationAlpha(int tickRate) {
+        if (tickRate <= 0 || masterTickRate <= 0 || fixedTicks == 0) {
+            return interpolationAlpha;
+        }
+        int stride = Math.max(1, Math.round((float) masterTickRate / tickRate));
+        long ticksSinceStep = (fixedTicks - 1) % stride;
+        return Math.min(1.0f, (ticksSinceStep + interpolationAlpha) / stride);
+    }
+
+    /**
+     * Set the master fixed clock that per-rate interpolation is measured against
+     *
+     * @param masterTickRate Master ticks per second of game time
+     * @param fixedTicks Master ticks run so far
+     */
+    public void setFixedClock(int masterTickRate, long fixedTicks) {
+        this.masterTickRate = masterTickRate;
+        this.fixedTicks = fixedTicks;
+    }
+
     /**
      * Check if debug mode is enabled
      *
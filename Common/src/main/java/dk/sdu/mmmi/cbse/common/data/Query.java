@@ -0,0 +1,179 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Live view of all entities in a world that have a set of required components.
+ * <p>
+ * A query caches the archetypes matching its component set and is told about every new
+ * archetype the world creates. Because adding or removing a component moves an entity to
+ * another archetype, the view is always current without rescanning the world.
+ * <p>
+ * Entity iteration runs backwards through the matching chunks, so removing the current entity
+ * or changing its components while iterating never skips another entity.
+ */
+public final class Query implements Iterable<Entity> {
+    private final long mask;
+    private final List<Archetype> archetypes = new CopyOnWriteArrayList<>();
+    private final List<Archetype> archetypesView = Collections.unmodifiableList(archetypes);
+
+    Query(long mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Register an archetype if it matches. Called by the storage while holding its lock.
+     */
+    void offer(Archetype archetype) {
+        if (archetype.matches(mask)) {
+            archetypes.add(archetype);
+        }
+    }
+
+    /**
+     * Get the component mask this query requires
+     * @return Required component signature bits
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Get the component types this query requires
+     * @return Required component types, ordered by type ID
+     */
+    public List<Class<?>> getRequiredTypes() {
+        List<Class<?>> types = new ArrayList<>(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            types.add(ComponentTypes.type(Long.numberOfTrailingZeros(bits)));
+        }
+        return types;
+    }
+
+    /**
+     * Get the archetypes currently matching this query
+     * @return Read-only archetype list
+     */
+    public List<Archetype> getArchetypes() {
+        return archetypesView;
+    }
+
+    /**
+     * Get the number of matching entities
+     * @return Entity count
+     */
+    public int size() {
+        int size = 0;
+        for (Archetype archetype : archetypes) {
+            size += archetype.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Archetype archetype : archetypes) {
+            for (Chunk chunk : archetype.getChunks()) {
+                if (chunk.size() > 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visit every non-empty matching chunk.
+     * Systems that only read and write component data should prefer this over entity iteration.
+     * @param action Chunk consumer
+     */
+    public void forEachChunk(Consumer<Chunk> action) {
+        for (Archetype archetype : archetypes) {
+            for (Chunk chunk : archetype.getChunks()) {
+                if (chunk.size() > 0) {
+                    action.accept(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the non-empty matching chunks
+     * @return New list of chunks
+     */
+    public List<Chunk> getChunks() {
+        List<Chunk> chunks = new ArrayList<>();
+        forEachChunk(chunks::add);
+        return chunks;
+    }
+
+    /**
+     * Copy the matching entities into a new list
+     * @return Matching entities
+     */
+    public List<Entity> toList() {
+        List<Entity> entities = new ArrayList<>(size());
+        for (Entity entity : this) {
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    @Override
+    public Iterator<Entity> iterator() {
+        return new Iterator<>() {
+            private int archetypeIndex = archetypes.size();
+            private List<Chunk> chunks = List.of();
+            private int chunkIndex;
+            private Chunk chunk;
+            private int row;
+            private Entity upcoming;
+
+            @Override
+            public boolean hasNext() {
+                while (upcoming == null) {
+                    if (chunk != null && row > 0) {
+                        // The chunk may have shrunk since the last step
+                        row = Math.min(row, chunk.size()) - 1;
+                        if (row >= 0) {
+                            upcoming = chunk.getEntity(row);
+                        }
+                        continue;
+                    }
+                    if (chunkIndex > 0) {
+                        chunkIndex = Math.min(chunkIndex, chunks.size()) - 1;
+                        if (chunkIndex >= 0) {
+                            chunk = chunks.get(chunkIndex);
+                            row = chunk.size();
+                        }
+                        continue;
+                    }
+                    if (archetypeIndex > 0) {
+                        archetypeIndex--;
+                        chunks = archetypes.get(archetypeIndex).getChunks();
+                        chunkIndex = chunks.size();
+                        chunk = null;
+                        continue;
+                    }
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public Entity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Entity next = upcoming;
+                upcoming = null;
+                return next;
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+/**
+ * Timing statistics of one system over the profiler's recent samples.
+ *
+ * @param phase Game loop phase the system runs in
+ * @param system System class name
+ * @param samples Number of samples the statistics are computed from
+ * @param p50Millis Median time per invocation in milliseconds
+ * @param p95Millis 95th percentile in milliseconds
+ * @param p99Millis 99th percentile in milliseconds
+ * @param maxMillis Slowest invocation in milliseconds
+ */
+public record SystemTiming(String phase, String system, int samples,
+                           double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+}
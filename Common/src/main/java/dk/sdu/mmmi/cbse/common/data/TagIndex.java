@@ -0,0 +1,75 @@
+package dk.sdu.mmmi.cbse.common.data;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+import dk.sdu.mmmi.cbse.common.components.TagComponent;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of world entities by {@link EntityType}.
+ * Kept current through storage callbacks and by observing each indexed {@link TagComponent}.
+ */
+final class TagIndex implements ArchetypeStorage.Listener {
+    private final Map<EntityType, Set<Entity>> index = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, Set<Entity>> views = new EnumMap<>(EntityType.class);
+
+    TagIndex() {
+        for (EntityType type : EntityType.values()) {
+            Set<Entity> entities = ConcurrentHashMap.newKeySet();
+            index.put(type, entities);
+            views.put(type, Collections.unmodifiableSet(entities));
+        }
+    }
+
+    /**
+     * Get a live, read-only view of the entities tagged with a type
+     */
+    Set<Entity> get(EntityType type) {
+        return views.get(type);
+    }
+
+    @Override
+    public void componentAdded(Entity entity, IComponent component) {
+        if (component instanceof TagComponent tag) {
+            tag.setTypeObserver(new Binding(entity));
+            for (EntityType type : tag.getTypes()) {
+                index.get(type).add(entity);
+            }
+        }
+    }
+
+    @Override
+    public void componentRemoved(Entity entity, IComponent component) {
+        if (component instanceof TagComponent tag) {
+            tag.setTypeObserver(null);
+            for (EntityType type : tag.getTypes()) {
+                index.get(type).remove(entity);
+            }
+        }
+    }
+
+    /**
+     * Forwards tag changes of one indexed entity
+     */
+    private final class Binding implements TagComponent.TypeObserver {
+        private final Entity entity;
+
+        private Binding(Entity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public void typeAdded(EntityType type) {
+            index.get(type).add(entity);
+        }
+
+        @Override
+        public void typeRemoved(EntityType type) {
+            index.get(type).remove(entity);
+        }
+    }
+}
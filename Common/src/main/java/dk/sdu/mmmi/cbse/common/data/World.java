@@ -1,35 +1,249 @@
 package dk.sdu.mmmi.cbse.common.data;
 
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Container for all game entities.
+ * Entities are addressed by dense handles, see {@link EntityHandle}. Component data of added
+ * entities is kept in archetype chunks, and systems find their entities through {@link #query(Class[])}.
  */
-// ToDo: Ensure this is thread-safe and singleton
+// ToDo: Ensure this is singleton
 public class World {
+    private static final int INITIAL_CAPACITY = 1024;
 
-    private final Map<String, Entity> entityMap = new ConcurrentHashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final ArchetypeStorage storage = new ArchetypeStorage(tagIndex);
+    private final Collection<Entity> entities = new EntityView();
+    private final EntityCommandBuffer commandBuffer = new EntityCommandBuffer(this);
 
-    public String addEntity(Entity entity) {
-        entityMap.put(entity.getID(), entity);
-        return entity.getID();
+    // Slot table indexed by handle index. Writes are guarded by this world, reads are lock-free.
+    private volatile Entity[] slots = new Entity[INITIAL_CAPACITY];
+    private int[] generations = new int[INITIAL_CAPACITY];
+    private int[] freeIndices = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private volatile int nextIndex;
+    private volatile int entityCount;
+
+    /**
+     * Add an entity to this world
+     * @param entity Entity to add
+     * @return Handle of the entity in this world
+     */
+    public synchronized long addEntity(Entity entity) {
+        long existing = entity.getHandle();
+        if (existing != EntityHandle.NULL && getEntity(existing) == entity) {
+            return existing;
+        }
+
+        int index = freeCount > 0 ? freeIndices[--freeCount] : nextIndex++;
+        if (index >= slots.length) {
+            grow();
+        }
+
+        int generation = generations[index] + 1;
+        if (generation == 0) {
+            generation = 1; // Skip 0 on wrap-around so handles never equal NULL
+        }
+        generations[index] = generation;
+
+        long handle = EntityHandle.of(index, generation);
+        entity.setHandle(handle);
+        storage.attach(entity);
+        slots[index] = entity;
+        entityCount++;
+        return handle;
     }
 
-    public void removeEntity(String entityID) {
-        entityMap.remove(entityID);
+    /**
+     * Remove the entity referenced by a handle. Stale handles are ignored.
+     * Entities obtained from an {@link EntityPool} are returned to their pool.
+     * @param handle Entity handle
+     */
+    public synchronized void removeEntity(long handle) {
+        Entity entity = getEntity(handle);
+        if (entity == null) {
+            return;
+        }
+
+        int index = EntityHandle.index(handle);
+        slots[index] = null;
+        freeIndices[freeCount++] = index;
+        entityCount--;
+
+        entity.setHandle(EntityHandle.NULL);
+        storage.detach(entity);
+
+        EntityPool pool = entity.pool();
+        if (pool != null) {
+            pool.release(entity);
+        }
     }
 
     public void removeEntity(Entity entity) {
-        entityMap.remove(entity.getID());
+        long handle = entity.getHandle();
+        if (handle != EntityHandle.NULL) {
+            removeEntity(handle);
+        }
+    }
+
+    /**
+     * Get the buffer for deferring structural changes to the next sync point of the game loop.
+     * Use it to add or remove entities while other systems may be iterating the world.
+     * @return Command buffer of this world
+     */
+    public EntityCommandBuffer getCommandBuffer() {
+        return commandBuffer;
     }
 
+    /**
+     * Get a live view of all entities. Removing through the view removes from the world.
+     * @return Entity collection
+     */
     public Collection<Entity> getEntities() {
-        return entityMap.values();
+        return entities;
+    }
+
+    /**
+     * Resolve a handle to its entity
+     * @param handle Entity handle
+     * @return The entity, or null if the handle is stale or unknown
+     */
+    public Entity getEntity(long handle) {
+        int index = EntityHandle.index(handle);
+        Entity[] table = slots;
+        if (handle == EntityHandle.NULL || index < 0 || index >= table.length) {
+            return null;
+        }
+        Entity entity = table[index];
+        return entity != null && entity.getHandle() == handle ? entity : null;
+    }
+
+    /**
+     * Check if a handle refers to an entity currently in this world
+     * @param handle Entity handle
+     * @return true if the handle is live
+     */
+    public boolean isAlive(long handle) {
+        return getEntity(handle) != null;
+    }
+
+    /**
+     * Get a live, read-only view of the entities tagged with a type.
+     * The view follows tag changes and tolerates entities being removed while iterating.
+     * @param type Entity type
+     * @return Tagged entities
+     */
+    public Collection<Entity> getEntitiesWithType(EntityType type) {
+        return tagIndex.get(type);
+    }
+
+    /**
+     * Get any entity tagged with a type, e.g. the player
+     * @param type Entity type
+     * @return A tagged entity, or null if there is none
+     */
+    public Entity getFirstEntityWithType(EntityType type) {
+        Iterator<Entity> iterator = tagIndex.get(type).iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Count the entities tagged with a type
+     * @param type Entity type
+     * @return Number of tagged entities
+     */
+    public int countEntitiesWithType(EntityType type) {
+        return tagIndex.get(type).size();
+    }
+
+    /**
+     * Get all archetypes that have been created in this world
+     * @return Read-only archetype list
+     */
+    public List<Archetype> getArchetypes() {
+        return storage.getArchetypes();
+    }
+
+    /**
+     * Get the non-empty chunks of every archetype containing all required components.
+     * Systems can iterate the component columns of these chunks directly.
+     * @param required Component types that must be present
+     * @return Matching chunks
+     */
+    public List<Chunk> getChunks(Class<?>... required) {
+        return storage.query(required).getChunks();
+    }
+
+    /**
+     * Get a live view of all entities that have every required component.
+     * Queries are cached, so repeated calls with the same types return the same view.
+     * @param required Component types that must be present
+     * @return Query view
+     */
+    public Query query(Class<?>... required) {
+        return storage.query(required);
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+        generations = Arrays.copyOf(generations, capacity);
+        freeIndices = Arrays.copyOf(freeIndices, capacity);
+        slots = Arrays.copyOf(slots, capacity);
     }
 
-    public Entity getEntity(String ID) {
-        return entityMap.get(ID);
+    private final class EntityView extends AbstractCollection<Entity> {
+        @Override
+        public Iterator<Entity> iterator() {
+            Entity[] table = slots;
+            int limit = Math.min(nextIndex, table.length);
+            return new Iterator<>() {
+                private int cursor;
+                private Entity upcoming;
+                private Entity current;
+
+                @Override
+                public boolean hasNext() {
+                    // Slots can be cleared concurrently, so look ahead and hold on to the entity
+                    while (upcoming == null && cursor < limit) {
+                        upcoming = table[cursor++];
+                    }
+                    return upcoming != null;
+                }
+
+                @Override
+                public Entity next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    current = upcoming;
+                    upcoming = null;
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    removeEntity(current);
+                    current = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entityCount;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Entity entity && getEntity(entity.getHandle()) == entity;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package dk.sdu.mmmi.cbse.common.events;
+
+/**
+ * Event listener delivered to off the game thread, for listeners doing slow work such as I/O.
+ * <p>
+ * Events are queued per listener and delivered on a virtual thread in publication order, one at a
+ * time. If the backlog is full, new events for the listener are dropped and reported. A listener
+ * that also implements {@link IBatchEventListener} receives deferred batches the same way.
+ *
+ * @param <T> The type of event this listener handles
+ */
+public interface IAsyncEventListener<T> extends IEventListener<T> {
+    /**
+     * Get the maximum number of undelivered events to hold for this listener
+     *
+     * @return Backlog limit
+     */
+    default int getBacklogLimit() {
+        return 1024;
+    }
+}
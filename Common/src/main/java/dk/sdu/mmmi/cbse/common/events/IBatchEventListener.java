@@ -0,0 +1,24 @@
+package dk.sdu.mmmi.cbse.common.events;
+
+import java.util.List;
+
+/**
+ * Event listener receiving deferred events in batches.
+ * All events of one type drained at a sync point arrive in a single call, in publication order.
+ * Events published immediately arrive as a batch of one.
+ *
+ * @param <T> The type of event this listener handles
+ */
+public interface IBatchEventListener<T> extends IEventListener<T> {
+    /**
+     * Called with the events of one deferred dispatch
+     *
+     * @param events Events in publication order, only valid during the call
+     */
+    void onEvents(List<T> events);
+
+    @Override
+    default void onEvent(T event) {
+        onEvents(List.of(event));
+    }
+}
@@ -0,0 +1,21 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+/**
+ * How much a system may be throttled when frames run over budget.
+ */
+public enum Criticality {
+    /**
+     * Runs every frame, no matter the load
+     */
+    CRITICAL,
+
+    /**
+     * Gameplay work that tolerates running at a reduced rate under heavy load
+     */
+    NORMAL,
+
+    /**
+     * Visual or diagnostic work, throttled first and skipped under heavy load
+     */
+    COSMETIC
+}
@@ -0,0 +1,31 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+
+import java.util.Set;
+
+/**
+ * Optional interface for update systems declaring which component types they touch.
+ * <p>
+ * The game loop may run a system implementing this interface on a worker thread, at the same time
+ * as other declared systems whose access does not conflict. Systems without a declaration run alone,
+ * on the game loop thread, in priority order.
+ * <p>
+ * A declaring system must only touch the listed component types, make structural changes through
+ * {@link dk.sdu.mmmi.cbse.common.data.World#getCommandBuffer()}, and leave the JavaFX scene alone.
+ */
+public interface IComponentAccess {
+    /**
+     * Component types the system reads but does not modify
+     *
+     * @return Read set
+     */
+    Set<Class<? extends IComponent>> getReads();
+
+    /**
+     * Component types the system modifies
+     *
+     * @return Write set
+     */
+    Set<Class<? extends IComponent>> getWrites();
+}
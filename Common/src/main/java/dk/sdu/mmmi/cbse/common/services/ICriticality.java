@@ -0,0 +1,17 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+/**
+ * Optional interface for systems that may be throttled when frames run over budget.
+ * Systems without it are treated as {@link Criticality#CRITICAL}.
+ * <p>
+ * A throttled system is not called in the frames it skips. Time-based effects should advance by
+ * the game time elapsed since the system last ran, not by the delta time of the current frame.
+ */
+public interface ICriticality {
+    /**
+     * Get how the system may be throttled
+     *
+     * @return Criticality level
+     */
+    Criticality getCriticality();
+}
@@ -16,6 +16,27 @@ public interface IEventService {
      */
     <T extends IEvent> void publish(T event);
 
+    /**
+     * Queue an event for delivery at the next sync point of the game loop instead of notifying
+     * listeners now. Use this from hot loops such as collision resolution.
+     *
+     * @param event Event to publish
+     * @param <T> Type of event
+     */
+    default <T extends IEvent> void publishDeferred(T event) {
+        publish(event);
+    }
+
+    /**
+     * Deliver the events queued by {@link #publishDeferred(IEvent)}.
+     * Events queued while dispatching are left for the next call.
+     *
+     * @return Number of events delivered
+     */
+    default int dispatchDeferred() {
+        return 0;
+    }
+
     /**
      * Subscribe to events of a specific type
      *
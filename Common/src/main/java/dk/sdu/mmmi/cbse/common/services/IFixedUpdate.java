@@ -13,4 +13,14 @@ public interface IFixedUpdate {
     void fixedUpdate(GameData gameData, World world);
 
     int getPriority();
+
+    /**
+     * Get how many times per second of game time the system runs.
+     * A system with its own rate should step by 1 / rate rather than the base fixed delta time.
+     *
+     * @return Tick rate in Hz, or 0 for the base fixed update rate
+     */
+    default int getTickRate() {
+        return 0;
+    }
 }
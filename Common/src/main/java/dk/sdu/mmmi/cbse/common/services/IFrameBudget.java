@@ -0,0 +1,42 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+/**
+ * Service exposing the decisions of the frame-budget governor.
+ */
+public interface IFrameBudget {
+    /**
+     * Get the frame time budget
+     *
+     * @return Budget in milliseconds
+     */
+    double getBudgetMillis();
+
+    /**
+     * Get the smoothed time spent running systems per frame
+     *
+     * @return Average frame work in milliseconds
+     */
+    double getAverageFrameMillis();
+
+    /**
+     * Get the current load level: 0 runs everything, 1 throttles cosmetic systems,
+     * 2 skips cosmetic systems and throttles normal ones
+     *
+     * @return Pressure level
+     */
+    int getPressure();
+
+    /**
+     * Get the number of system invocations skipped by the governor
+     *
+     * @return Total skipped invocations
+     */
+    long getSkippedInvocations();
+
+    /**
+     * Get the number of times the pressure level changed
+     *
+     * @return Total level changes
+     */
+    long getPressureChanges();
+}
@@ -0,0 +1,21 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+/**
+ * Handle to a job submitted to the {@link IJobScheduler}.
+ * Can be passed as a dependency of later jobs, or waited on directly.
+ */
+public interface IJobHandle {
+    /**
+     * Check if the job and all its batches have finished
+     *
+     * @return true if done, successfully or not
+     */
+    boolean isDone();
+
+    /**
+     * Block until the job has finished
+     *
+     * @throws RuntimeException if the job failed
+     */
+    void complete();
+}
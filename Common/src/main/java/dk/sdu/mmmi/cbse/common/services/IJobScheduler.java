@@ -0,0 +1,57 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+/**
+ * Service for data-parallel work inside a system, backed by work-stealing threads sized to the machine.
+ * <p>
+ * Jobs start once all their dependencies have finished. The game loop waits for every outstanding job
+ * at each sync point, before applying recorded entity commands, so jobs never outlive the phase that
+ * scheduled them. Like systems running on a worker thread, jobs must make structural changes through
+ * {@link dk.sdu.mmmi.cbse.common.data.World#getCommandBuffer()}.
+ */
+public interface IJobScheduler {
+    /**
+     * Work over a half-open index range
+     */
+    @FunctionalInterface
+    interface RangeJob {
+        /**
+         * Process indices from start (inclusive) to end (exclusive)
+         *
+         * @param start First index
+         * @param end Index after the last one
+         */
+        void execute(int start, int end);
+    }
+
+    /**
+     * Schedule a single job
+     *
+     * @param job Work to run
+     * @param dependencies Jobs that must finish first
+     * @return Handle to the job
+     */
+    IJobHandle schedule(Runnable job, IJobHandle... dependencies);
+
+    /**
+     * Schedule a parallel-for over indices 0 to count, split into batches of at most batchSize
+     *
+     * @param count Number of indices
+     * @param batchSize Maximum indices per batch
+     * @param job Work run once per batch
+     * @param dependencies Jobs that must finish first
+     * @return Handle completing when every batch has run
+     */
+    IJobHandle parallelFor(int count, int batchSize, RangeJob job, IJobHandle... dependencies);
+
+    /**
+     * Wait for every job scheduled so far. Failures are logged rather than thrown.
+     */
+    void completeAll();
+
+    /**
+     * Get the number of worker threads
+     *
+     * @return Worker count
+     */
+    int getWorkerCount();
+}
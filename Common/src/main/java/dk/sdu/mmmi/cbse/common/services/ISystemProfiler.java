@@ -0,0 +1,37 @@
+package dk.sdu.mmmi.cbse.common.services;
+
+import dk.sdu.mmmi.cbse.common.data.SystemTiming;
+
+import java.util.List;
+
+/**
+ * Service exposing per-system frame timings recorded by the game loop.
+ * Nothing is measured while the profiler is disabled.
+ */
+public interface ISystemProfiler {
+    /**
+     * Check if system invocations are being timed
+     *
+     * @return true if enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enable or disable timing
+     *
+     * @param enabled true to time every system invocation
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Get statistics for every system with at least one sample, slowest p95 first
+     *
+     * @return Timing snapshot
+     */
+    List<SystemTiming> getTimings();
+
+    /**
+     * Discard all recorded samples
+     */
+    void reset();
+}
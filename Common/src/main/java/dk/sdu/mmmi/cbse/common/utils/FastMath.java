@@ -0,0 +1,75 @@
+package dk.sdu.mmmi.cbse.common.utils;
+
+/**
+ * Table-based sine and cosine for per-frame rotation math.
+ * <p>
+ * Values are linearly interpolated from a 4096-entry table of one full turn. The absolute error
+ * is below 1e-6, far under what a transform or collision polygon can show on screen.
+ * Use {@link Math} where exact results matter.
+ */
+public final class FastMath {
+    private static final int SIZE = 4096;
+    private static final int MASK = SIZE - 1;
+    private static final float DEGREES_TO_INDEX = SIZE / 360.0f;
+    private static final float RADIANS_TO_INDEX = (float) (SIZE / (2.0 * Math.PI));
+    private static final float QUARTER_TURN = SIZE / 4.0f;
+
+    private static final float[] SIN = new float[SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIZE; i++) {
+            SIN[i] = (float) Math.sin(i * 2.0 * Math.PI / SIZE);
+        }
+    }
+
+    private FastMath() {
+
+    }
+
+    /**
+     * Sine of an angle in degrees
+     * @param degrees Angle in degrees
+     * @return Approximate sine
+     */
+    public static float sinDeg(float degrees) {
+        return lookup(degrees * DEGREES_TO_INDEX);
+    }
+
+    /**
+     * Cosine of an angle in degrees
+     * @param degrees Angle in degrees
+     * @return Approximate cosine
+     */
+    public static float cosDeg(float degrees) {
+        return lookup(degrees * DEGREES_TO_INDEX + QUARTER_TURN);
+    }
+
+    /**
+     * Sine of an angle in radians
+     * @param radians Angle in radians
+     * @return Approximate sine
+     */
+    public static float sin(float radians) {
+        return lookup(radians * RADIANS_TO_INDEX);
+    }
+
+    /**
+     * Cosine of an angle in radians
+     * @param radians Angle in radians
+     * @return Approximate cosine
+     */
+    public static float cos(float radians) {
+        return lookup(radians * RADIANS_TO_INDEX + QUARTER_TURN);
+    }
+
+    private static float lookup(float index) {
+        int floor = (int) index;
+        if (index < floor) {
+            floor--; // Round towards negative infinity for negative angles
+        }
+        float fraction = index - floor;
+        int i = floor & MASK;
+        float a = SIN[i];
+        return a + (SIN[i + 1] - a) * fraction;
+    }
+}
@@ -3,15 +3,20 @@ package dk.sdu.mmmi.cbse.commonasteroid.events;
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.events.IEvent;
+import dk.sdu.mmmi.cbse.commonasteroid.AsteroidComponent;
+import dk.sdu.mmmi.cbse.commonasteroid.AsteroidSize;
 
 /**
  * Event triggered when an asteroid is split.
  * Contains information about the bullet that caused the split.
+ * The asteroid size is captured on creation, as the source entity may be removed before
+ * asynchronous listeners see the event.
  */
 public class AsteroidSplitEvent implements IEvent {
     private final Entity source;
     private final Vector2D bulletVelocity;
     private final Vector2D impactPoint;
+    private final AsteroidSize size;
 
     /**
      * Create a new asteroid split event with bullet trajectory information
@@ -27,6 +32,9 @@ public class AsteroidSplitEvent implements IEvent {
         this.source = source;
         this.bulletVelocity = bulletVelocity;
         this.impactPoint = impactPoint;
+
+        AsteroidComponent asteroidComponent = source.getComponent(AsteroidComponent.class);
+        this.size = asteroidComponent != null ? asteroidComponent.getSize() : null;
     }
 
     /**
@@ -66,6 +74,15 @@ public class AsteroidSplitEvent implements IEvent {
         return impactPoint;
     }
 
+    /**
+     * Get the size of the asteroid when it was split
+     *
+     * @return Asteroid size, or null if the source had no AsteroidComponent
+     */
+    public AsteroidSize getSize() {
+        return size;
+    }
+
     /**
      * Check if this split was caused by a bullet
      *
@@ -1,14 +1,13 @@
 package dk.sdu.mmmi.cbse.commonbullet;
 
 import dk.sdu.mmmi.cbse.common.components.IComponent;
-
-import java.util.UUID;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
 
 /**
  * Component for bullet properties.
  */
 public class BulletComponent implements IComponent {
-    private final UUID shooterID;
+    private long shooterHandle;
     private final BulletSource source;
 
     private float speed = 5.0f;
@@ -33,16 +32,29 @@ public class BulletComponent implements IComponent {
     /**
      * Create a bullet components
      *
-     * @param shooterID ID of the shooter
+     * @param shooterHandle Entity handle of the shooter
      * @param source Bullet source
      */
-    public BulletComponent(UUID shooterID, BulletSource source) {
-        this.shooterID = shooterID;
+    public BulletComponent(long shooterHandle, BulletSource source) {
+        this.shooterHandle = shooterHandle;
         this.source = source;
     }
 
-    public UUID getShooterID() {
-        return shooterID;
+    public long getShooterHandle() {
+        return shooterHandle;
+    }
+
+    public void setShooterHandle(long shooterHandle) {
+        this.shooterHandle = shooterHandle;
+    }
+
+    /**
+     * Clear the shooter and pierce/bounce progress so the component can be reused
+     */
+    public void reset() {
+        shooterHandle = EntityHandle.NULL;
+        currentPierceCount = 0;
+        currentBounceCount = 0;
     }
 
     public BulletSource getSource() {
@@ -3,6 +3,7 @@ package dk.sdu.mmmi.cbse.commoncollision;
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.utils.FlickerUtility;
@@ -16,7 +17,6 @@ import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.commonplayer.PlayerComponent;
 
 import java.util.ServiceLoader;
-import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -45,8 +45,8 @@ public class CollisionHandlers {
         }
 
         // Prevent bullets from hitting their shooter
-        UUID shooterID = bulletComponent.getShooterID();
-        if (shooterID != null && shooterID.toString().equals(target.getID())) {
+        long shooterHandle = bulletComponent.getShooterHandle();
+        if (shooterHandle != EntityHandle.NULL && shooterHandle == target.getHandle()) {
             return CollisionResult.none();
         }
 
@@ -330,7 +330,7 @@ public class CollisionHandlers {
         boolean destroyed = asteroidComponent.takeDamage(damage);
 
         if (destroyed) {
-            LOGGER.log(Level.INFO, "Asteroid {0} destroyed by bullet! Publishing split event", asteroid.getID());
+            LOGGER.log(Level.INFO, "Asteroid {0} destroyed by bullet! Queueing split event", asteroid.getID());
 
             CollisionResult result = CollisionResult.remove(asteroid);
 
@@ -338,7 +338,7 @@ public class CollisionHandlers {
             Vector2D impactPoint = getImpactPoint(asteroid, bullet);
 
             if (context.getEventService() != null) {
-                result.addAction(() -> context.getEventService().publish(
+                result.addAction(() -> context.getEventService().publishDeferred(
                         new AsteroidSplitEvent(asteroid, bulletVelocity, impactPoint)));
             }
 
@@ -429,7 +429,7 @@ public class CollisionHandlers {
                             EnemyDestroyedEvent.DestructionCause.OTHER;
 
             if (context.getEventService() != null) {
-                result.addAction(() -> context.getEventService().publish(
+                result.addAction(() -> context.getEventService().publishDeferred(
                         new EnemyDestroyedEvent(enemy, cause, enemyComponent.getScoreValue())));
             }
 
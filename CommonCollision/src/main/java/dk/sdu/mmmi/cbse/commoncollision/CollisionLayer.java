@@ -25,6 +25,14 @@ public enum CollisionLayer {
         return value;
     }
 
+    /**
+     * Get the bit standing for this layer in a collision mask
+     * @return Mask with only this layer's bit set
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
     public static CollisionLayer fromValue(int value) {
         for (CollisionLayer layer : values()) {
             if (layer.value == value) {
@@ -1,22 +1,21 @@
 package dk.sdu.mmmi.cbse.commoncollision;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Singleton class that defines which collision layers can interact with each other.
+ * The rules are compiled into one bitmask per layer, indexed by ordinal, with a bit set for every
+ * layer it collides with (see {@link CollisionLayer#getBit()}).
  */
 public class CollisionLayerMatrix {
     private static final Logger LOGGER = Logger.getLogger(CollisionLayerMatrix.class.getName());
     private static final CollisionLayerMatrix INSTANCE = new CollisionLayerMatrix();
 
-    private final Map<CollisionLayer, Map<CollisionLayer, Boolean>> matrix;
+    private final int[] masks;
 
     private CollisionLayerMatrix() {
-        this.matrix = new EnumMap<>(CollisionLayer.class);
-        initializeMatrix();
+        this.masks = new int[CollisionLayer.values().length];
         defineCollisionRules();
         LOGGER.log(Level.INFO, "CollisionLayerMatrix initialized with collision rules");
     }
@@ -25,19 +24,6 @@ public class CollisionLayerMatrix {
         return INSTANCE;
     }
 
-    /**
-     * Initialize the matrix with default false values
-     */
-    private void initializeMatrix() {
-        for (CollisionLayer layer1 : CollisionLayer.values()) {
-            Map<CollisionLayer, Boolean> row = new EnumMap<>(CollisionLayer.class);
-            for (CollisionLayer layer2 : CollisionLayer.values()) {
-                row.put(layer2, false);
-            }
-            matrix.put(layer1, row);
-        }
-    }
-
     /**
      * Define collision rules
      */
@@ -105,8 +91,13 @@ public class CollisionLayerMatrix {
      * @param canCollide Whether they can collide
      */
     private void setLayersCollide(CollisionLayer layer1, CollisionLayer layer2, boolean canCollide) {
-        matrix.get(layer1).put(layer2, canCollide);
-        matrix.get(layer2).put(layer1, canCollide);
+        if (canCollide) {
+            masks[layer1.ordinal()] |= layer2.getBit();
+            masks[layer2.ordinal()] |= layer1.getBit();
+        } else {
+            masks[layer1.ordinal()] &= ~layer2.getBit();
+            masks[layer2.ordinal()] &= ~layer1.getBit();
+        }
     }
 
     /**
@@ -121,12 +112,15 @@ public class CollisionLayerMatrix {
             return false;
         }
 
-        Map<CollisionLayer, Boolean> row = matrix.get(layer1);
-        if (row == null) {
-            return false;
-        }
+        return (masks[layer1.ordinal()] & layer2.getBit()) != 0;
+    }
 
-        Boolean result = row.get(layer2);
-        return result != null && result;
+    /**
+     * Get the collision masks of all layers
+     *
+     * @return Copy of the masks, indexed by layer ordinal
+     */
+    public int[] getCollisionMasks() {
+        return masks.clone();
     }
 }
\ No newline at end of file
@@ -178,6 +178,16 @@ public class PhysicsComponent implements IComponent {
         acceleration = new Vector2D(0, 0);
     }
 
+    /**
+     * Stop all motion and wake the body, keeping its physical properties
+     */
+    public void reset() {
+        velocity = new Vector2D(0, 0);
+        angularVelocity = 0.0f;
+        clearAccumulatedForces();
+        resetSleepTimer();
+    }
+
     /**
      * Apply drag/friction to velocity
      * @param deltaTime Time step
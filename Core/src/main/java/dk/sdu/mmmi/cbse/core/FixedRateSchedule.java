@@ -0,0 +1,105 @@
+package dk.sdu.mmmi.cbse.core;
+
+import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Derives one master fixed clock from the tick rates of all fixed update systems.
+ *
+ * The master rate is the least common multiple of the declared rates and the base rate, so every
+ * system runs exactly every n-th master tick. If that multiple gets unreasonably high, the fastest
+ * rate is used instead and the other systems are rounded to the nearest whole interval.
+ */
+public class FixedRateSchedule {
+	private static final Logger LOGGER = Logger.getLogger(FixedRateSchedule.class.getName());
+
+	/**
+	 * Highest master rate accepted before falling back to rounded intervals
+	 */
+	public static final int MAX_MASTER_RATE = 960;
+
+	private final int masterRate;
+	private final int baseInterval;
+	private final int[] intervals;
+
+	/**
+	 * Create the schedule for a list of fixed update systems
+	 *
+	 * @param systems Fixed update systems in scheduler order
+	 * @param baseRate Rate of systems not declaring their own, in Hz
+	 */
+	public FixedRateSchedule(List<? extends IFixedUpdate> systems, int baseRate) {
+		int count = systems.size();
+		int[] rates = new int[count];
+		long lcm = baseRate;
+		int fastest = baseRate;
+
+		for (int i = 0; i < count; i++) {
+			int rate = systems.get(i).getTickRate();
+			rates[i] = rate > 0 ? rate : baseRate;
+			lcm = lcm(lcm, rates[i]);
+			fastest = Math.max(fastest, rates[i]);
+		}
+
+		if (lcm <= MAX_MASTER_RATE) {
+			masterRate = (int) lcm;
+		} else {
+			masterRate = fastest;
+			LOGGER.log(Level.WARNING, "Fixed tick rates need a {0}Hz master clock, rounding intervals to {1}Hz instead",
+					new Object[]{lcm, fastest});
+		}
+
+		intervals = new int[count];
+		for (int i = 0; i < count; i++) {
+			intervals[i] = Math.max(1, Math.round((float) masterRate / rates[i]));
+			if (rates[i] != baseRate) {
+				LOGGER.log(Level.INFO, "{0} ticks at {1}Hz, every {2} master ticks",
+						new Object[]{systems.get(i).getClass().getSimpleName(), rates[i], intervals[i]});
+			}
+		}
+		baseInterval = Math.max(1, Math.round((float) masterRate / baseRate));
+	}
+
+	/**
+	 * Get the rate of the master clock
+	 *
+	 * @return Master ticks per second of game time
+	 */
+	public int getMasterRate() {
+		return masterRate;
+	}
+
+	/**
+	 * Get the number of master ticks in one base fixed step
+	 *
+	 * @return Master ticks per base step
+	 */
+	public int getBaseInterval() {
+		return baseInterval;
+	}
+
+	/**
+	 * Check if a system runs on a master tick
+	 *
+	 * @param index Index of the system in scheduler order
+	 * @param tick Master tick number
+	 * @return true if the system is due
+	 */
+	public boolean isDue(int index, long tick) {
+		return tick % intervals[index] == 0;
+	}
+
+	private static long lcm(long a, long b) {
+		long x = a;
+		long y = b;
+		while (y != 0) {
+			long t = x % y;
+			x = y;
+			y = t;
+		}
+		return a / x * b;
+	}
+}
@@ -0,0 +1,165 @@
+package dk.sdu.mmmi.cbse.core;
+
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.common.services.IFrameBudget;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Throttles non-critical systems while the measured frame work exceeds the frame budget.
+ *
+ * Frame work is smoothed with an exponential moving average. Over budget, cosmetic systems run only
+ * every {@link #THROTTLE_INTERVAL} frames; over half as much again, they are skipped and normal systems
+ * are throttled instead. Pressure rises at once but only drops one level after the average has stayed
+ * well under budget for a while, so the game does not flap between levels.
+ */
+public final class FrameBudgetGovernor implements IFrameBudget {
+	private static final Logger LOGGER = Logger.getLogger(FrameBudgetGovernor.class.getName());
+	private static final FrameBudgetGovernor INSTANCE = new FrameBudgetGovernor();
+
+	public static final double DEFAULT_BUDGET_MILLIS = 1000.0 / 60.0;
+	public static final int THROTTLE_INTERVAL = 4;
+
+	private static final double SMOOTHING = 0.1;
+	private static final double HEAVY_LOAD_FACTOR = 1.5;
+	private static final double RECOVERY_FACTOR = 0.8;
+	private static final int RECOVERY_FRAMES = 60;
+
+	private volatile double budgetMillis = DEFAULT_BUDGET_MILLIS;
+	private volatile double averageMillis = 0.0;
+	private volatile int pressure = 0;
+	private volatile long skippedInvocations = 0;
+	private volatile long pressureChanges = 0;
+
+	private long frame = 0;
+	private int calmFrames = 0;
+
+	/**
+	 * Get the shared governor
+	 *
+	 * @return Shared instance
+	 */
+	public static FrameBudgetGovernor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Get the shared governor, used by the ServiceLoader
+	 *
+	 * @return Shared instance
+	 */
+	public static FrameBudgetGovernor provider() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Create a governor with the default budget
+	 */
+	public FrameBudgetGovernor() {
+
+	}
+
+	/**
+	 * Set the frame time budget. A budget of 0 or less turns throttling off.
+	 *
+	 * @param millis Budget in milliseconds
+	 */
+	public void setBudgetMillis(double millis) {
+		this.budgetMillis = millis;
+		if (millis <= 0) {
+			changePressure(0);
+		}
+	}
+
+	/**
+	 * Decide if a system runs this frame. Called from the game loop thread only.
+	 *
+	 * @param criticality Criticality of the system
+	 * @param offset Per-system offset, spreading throttled systems over different frames
+	 * @return true if the system should run
+	 */
+	public boolean shouldRun(Criticality criticality, int offset) {
+		int level = pressure;
+		boolean onBeat = (frame + offset) % THROTTLE_INTERVAL == 0;
+
+		boolean run = switch (criticality) {
+			case CRITICAL -> true;
+			case NORMAL -> level < 2 || onBeat;
+			case COSMETIC -> level == 0 || (level == 1 && onBeat);
+		};
+
+		if (!run) {
+			skippedInvocations++;
+		}
+		return run;
+	}
+
+	/**
+	 * Record the work time of a finished frame and adjust the pressure level
+	 *
+	 * @param workNanos Time spent running the frame in nanoseconds
+	 */
+	public void endFrame(long workNanos) {
+		frame++;
+
+		double millis = workNanos / 1_000_000.0;
+		// Starts from zero, so a slow first frame while classes load does not trigger throttling
+		double average = averageMillis + (millis - averageMillis) * SMOOTHING;
+		averageMillis = average;
+
+		double budget = budgetMillis;
+		if (budget <= 0) {
+			return;
+		}
+
+		int target = average > budget * HEAVY_LOAD_FACTOR ? 2 : average > budget ? 1 : 0;
+		if (target > pressure) {
+			calmFrames = 0;
+			changePressure(target);
+		} else if (pressure > 0 && average < budget * RECOVERY_FACTOR) {
+			if (++calmFrames >= RECOVERY_FRAMES) {
+				calmFrames = 0;
+				changePressure(pressure - 1);
+			}
+		} else {
+			calmFrames = 0;
+		}
+	}
+
+	@Override
+	public double getBudgetMillis() {
+		return budgetMillis;
+	}
+
+	@Override
+	public double getAverageFrameMillis() {
+		return averageMillis;
+	}
+
+	@Override
+	public int getPressure() {
+		return pressure;
+	}
+
+	@Override
+	public long getSkippedInvocations() {
+		return skippedInvocations;
+	}
+
+	@Override
+	public long getPressureChanges() {
+		return pressureChanges;
+	}
+
+	private void changePressure(int level) {
+		if (level == pressure) {
+			return;
+		}
+
+		LOGGER.log(Level.INFO, "Frame budget pressure {0} -> {1} (average {2}ms, budget {3}ms)",
+				new Object[]{pressure, level, String.format("%.2f", averageMillis), String.format("%.2f", budgetMillis)});
+		pressure = level;
+		pressureChanges++;
+	}
+}
@@ -12,6 +12,7 @@ import dk.sdu.mmmi.cbse.common.services.IRenderingContext;
 import dk.sdu.mmmi.cbse.core.events.EventService;
 import dk.sdu.mmmi.cbse.core.input.Button;
 import dk.sdu.mmmi.cbse.core.input.Input;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -271,6 +272,8 @@ public class Game extends Application implements IEventListener<GameOverEvent> {
             // Special key handling
             if (e.getCode() == KeyCode.ESCAPE) {
                 togglePause();
+            } else if (e.getCode() == KeyCode.F3) {
+                toggleDebugOverlay();
             }
         });
 
@@ -370,6 +373,16 @@ public class Game extends Application implements IEventListener<GameOverEvent> {
         }
     }
 
+    /**
+     * Toggle the debug overlay together with the system profiler feeding it
+     */
+    public void toggleDebugOverlay() {
+        boolean enabled = !gameData.isDebugMode();
+        gameData.setDebugMode(enabled);
+        SystemProfiler.getInstance().setEnabled(enabled);
+        LOGGER.log(Level.INFO, "Debug overlay {0}", enabled ? "enabled" : "disabled");
+    }
+
     /**
      * Toggle game pause state
      */
@@ -0,0 +1,183 @@
+package dk.sdu.mmmi.cbse.core;
+
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.events.GameOverEvent;
+import dk.sdu.mmmi.cbse.common.events.IEventListener;
+import dk.sdu.mmmi.cbse.common.services.IEventService;
+import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+import dk.sdu.mmmi.cbse.common.services.ILateUpdate;
+import dk.sdu.mmmi.cbse.common.services.IPluginService;
+import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.common.data.SystemTiming;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
+import dk.sdu.mmmi.cbse.core.utils.Time;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the simulation without JavaFX, stepping frames from a synthetic clock.
+ *
+ * Every frame advances the game by the same frame time. With a speed of 0 frames are run back to back,
+ * otherwise the runner sleeps so that simulated time passes at the given multiple of real time.
+ * Nothing is rendered, so this works on machines without a display.
+ */
+public class HeadlessRunner {
+	private static final Logger LOGGER = Logger.getLogger(HeadlessRunner.class.getName());
+
+	private final GameData gameData = new GameData();
+	private final World world = new World();
+
+	private final List<IPluginService> pluginServices;
+	private final Simulation simulation;
+	private final IEventService eventService;
+
+	// The run keeps going after game over, so soak tests cover the full tick count
+	private final AtomicBoolean gameOver = new AtomicBoolean(false);
+	private final IEventListener<GameOverEvent> gameOverListener = event -> {
+		if (gameOver.compareAndSet(false, true)) {
+			LOGGER.log(Level.INFO, "Game over at frame {0}: {1}", new Object[]{Time.getFrameCount(), event.reason()});
+		}
+	};
+
+	/**
+	 * Create a runner with the services from the Spring context
+	 *
+	 * @param context Spring ApplicationContext
+	 */
+	@SuppressWarnings("unchecked")
+	public HeadlessRunner(ApplicationContext context) {
+		this(context.getBean("pluginServices", List.class),
+				context.getBean("updateServices", List.class),
+				context.getBean("fixedUpdateServices", List.class),
+				context.getBean("lateUpdateServices", List.class),
+				context.getBean(IEventService.class));
+	}
+
+	/**
+	 * Create a runner with the given services
+	 *
+	 * @param pluginServices Plugins started before the first frame
+	 * @param updateServices Update systems sorted by priority
+	 * @param fixedUpdateServices Fixed update systems sorted by priority
+	 * @param lateUpdateServices Late update systems sorted by priority
+	 * @param eventService Event service, may be null
+	 */
+	public HeadlessRunner(List<IPluginService> pluginServices, List<IUpdate> updateServices,
+						  List<IFixedUpdate> fixedUpdateServices, List<ILateUpdate> lateUpdateServices,
+						  IEventService eventService) {
+		this.pluginServices = pluginServices;
+		this.simulation = new Simulation(gameData, world, updateServices, fixedUpdateServices, lateUpdateServices);
+		this.eventService = eventService;
+
+		LOGGER.log(Level.INFO, "HeadlessRunner initialized - Plugins: {0}, Updates: {1}, FixedUpdates: {2}, LateUpdates: {3}",
+				new Object[]{pluginServices.size(), updateServices.size(), fixedUpdateServices.size(), lateUpdateServices.size()});
+	}
+
+	/**
+	 * Start the plugins, run the given number of frames and stop the plugins again
+	 *
+	 * @param ticks Number of frames to run
+	 * @param frameTime Simulated time per frame in seconds
+	 * @param speed Multiple of real time to run at, or 0 to run as fast as possible
+	 * @throws IllegalArgumentException if frameTime is not a positive finite number or speed is negative
+	 */
+	public void run(long ticks, double frameTime, double speed) {
+		if (!(frameTime > 0) || Double.isInfinite(frameTime)) {
+			throw new IllegalArgumentException("Frame time must be positive and finite: " + frameTime);
+		}
+		if (!(speed >= 0)) {
+			throw new IllegalArgumentException("Speed must not be negative: " + speed);
+		}
+
+		if (eventService != null) {
+			eventService.subscribe(GameOverEvent.class, gameOverListener);
+		}
+		startPlugins();
+
+		LOGGER.log(Level.INFO, "Running {0} headless frames of {1}s at speed {2}",
+				new Object[]{ticks, frameTime, speed == 0 ? "unlimited" : speed});
+
+		long start = System.nanoTime();
+		long frame = 0;
+		try {
+			while (frame < ticks && !Thread.currentThread().isInterrupted()) {
+				simulation.step(frameTime);
+				frame++;
+
+				if (speed > 0) {
+					long due = start + (long) (frame * frameTime / speed * 1_000_000_000.0);
+					long wait = due - System.nanoTime();
+					if (wait > 0) {
+						LockSupport.parkNanos(wait);
+					}
+				}
+			}
+		} finally {
+			stopPlugins();
+			if (eventService != null) {
+				eventService.unsubscribe(GameOverEvent.class, gameOverListener);
+			}
+		}
+
+		double wallSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		double simulatedSeconds = frame * frameTime;
+		LOGGER.log(Level.INFO, "Headless run finished: {0} frames, {1}s simulated in {2}s ({3}x real time), {4} entities, {5} dropped fixed steps",
+				new Object[]{frame, simulatedSeconds, wallSeconds,
+						wallSeconds > 0 ? simulatedSeconds / wallSeconds : 0,
+						world.getEntities().size(), simulation.getDroppedSteps()});
+
+		FrameBudgetGovernor governor = FrameBudgetGovernor.getInstance();
+		LOGGER.log(Level.INFO, "Frame budget: average {0}ms of {1}ms, {2} pressure changes, {3} skipped invocations",
+				new Object[]{String.format("%.3f", governor.getAverageFrameMillis()), String.format("%.2f", governor.getBudgetMillis()),
+						governor.getPressureChanges(), governor.getSkippedInvocations()});
+
+		SystemProfiler profiler = SystemProfiler.getInstance();
+		if (profiler.isEnabled()) {
+			for (SystemTiming timing : profiler.getTimings()) {
+				LOGGER.log(Level.INFO, String.format("%-12s %-24s p50 %.3fms, p95 %.3fms, p99 %.3fms, max %.3fms",
+						timing.phase(), timing.system(), timing.p50Millis(), timing.p95Millis(),
+						timing.p99Millis(), timing.maxMillis()));
+			}
+		}
+	}
+
+	/**
+	 * Access to game data for inspection after a run
+	 */
+	public GameData getGameData() {
+		return gameData;
+	}
+
+	/**
+	 * Access to world for inspection after a run
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+	private void startPlugins() {
+		for (IPluginService plugin : pluginServices) {
+			try {
+				plugin.start(gameData, world);
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error starting plugin: " + plugin.getClass().getName(), e);
+			}
+		}
+	}
+
+	private void stopPlugins() {
+		for (IPluginService plugin : pluginServices) {
+			try {
+				plugin.stop(gameData, world);
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error stopping plugin: " + plugin.getClass().getName(), e);
+			}
+		}
+	}
+}
@@ -1,11 +1,15 @@
 package dk.sdu.mmmi.cbse.core;
 
 import dk.sdu.mmmi.cbse.core.config.GameConfiguration;
+import dk.sdu.mmmi.cbse.core.profiling.FlightRecording;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
 import dk.sdu.mmmi.cbse.core.utils.ApplicationArguments;
+import dk.sdu.mmmi.cbse.core.utils.Time;
 import javafx.application.Application;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +27,18 @@ public class Main {
 
 			// Parse command line arguments
 			ApplicationArguments.parse(args);
+			Time.setFixedUpdateRate(ApplicationArguments.getInt("tick-rate", Time.DEFAULT_FIXED_UPDATE_RATE));
+			Time.setMaxFixedSteps(ApplicationArguments.getInt("max-fixed-steps", Time.DEFAULT_MAX_FIXED_STEPS));
+			SystemProfiler.getInstance().setEnabled(ApplicationArguments.getBoolean("profile", false));
+			FrameBudgetGovernor.getInstance().setBudgetMillis(
+					ApplicationArguments.getDouble("frame-budget", FrameBudgetGovernor.DEFAULT_BUDGET_MILLIS));
+			if (ApplicationArguments.has("broad-phase")) {
+				// Read by the collision module, which does not see the application arguments
+				System.setProperty("collision.broadphase", ApplicationArguments.get("broad-phase"));
+			}
+			if (ApplicationArguments.has("jfr")) {
+				startFlightRecording(ApplicationArguments.get("jfr"));
+			}
 
 			// Init Spring ApplicationContext
 			LOGGER.log(Level.INFO, "Initializing Spring ApplicationContext");
@@ -30,6 +46,11 @@ public class Main {
 
 			logSpringBeans();
 
+			if (ApplicationArguments.getBoolean("headless", false)) {
+				runHeadless();
+				return;
+			}
+
 			// Launch the JavaFX application - Spring dependencies will be injected during Game.start()
 			LOGGER.log(Level.INFO, "Launching JavaFX application");
 			Application.launch(Game.class, args);
@@ -45,6 +66,34 @@ public class Main {
 		}
 	}
 
+	/**
+	 * Start a flight recording, e.g. --jfr=session.jfr, or --jfr for the default file name
+	 *
+	 * @param file Recording file, or "true" for the bare flag
+	 */
+	private static void startFlightRecording(String file) {
+		String destination = "true".equals(file) ? "asteroids.jfr" : file;
+		FlightRecording.start(Path.of(destination));
+	}
+
+	/**
+	 * Run the simulation without a window, e.g. --headless --ticks=36000 --frame-rate=60 --speed=0
+	 */
+	private static void runHeadless() {
+		long ticks = ApplicationArguments.getLong("ticks", Long.MAX_VALUE);
+		int frameRate = ApplicationArguments.getInt("frame-rate", Time.DEFAULT_FIXED_UPDATE_RATE);
+		double speed = ApplicationArguments.getDouble("speed", 0.0);
+		if (frameRate <= 0) {
+			throw new IllegalArgumentException("--frame-rate must be positive: " + frameRate);
+		}
+		if (!(speed >= 0)) {
+			throw new IllegalArgumentException("--speed must not be negative: " + speed);
+		}
+
+		LOGGER.log(Level.INFO, "Running headless");
+		new HeadlessRunner(applicationContext).run(ticks, 1.0 / frameRate, speed);
+	}
+
 	/**
 	 * Get the Spring ApplicationContext for other components if needed
 	 * @return The current ApplicationContext
@@ -0,0 +1,210 @@
+package dk.sdu.mmmi.cbse.core;
+
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IEventService;
+import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+import dk.sdu.mmmi.cbse.common.services.IJobScheduler;
+import dk.sdu.mmmi.cbse.common.services.ILateUpdate;
+import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.core.input.Input;
+import dk.sdu.mmmi.cbse.core.profiling.FrameEvent;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
+import dk.sdu.mmmi.cbse.core.utils.FixedTimestep;
+import dk.sdu.mmmi.cbse.core.utils.Time;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs one frame of the system pipeline for a given frame time, independent of how frames are timed.
+ * Fixed update systems are stepped from a time accumulator at the start of each frame, so they never
+ * race the per-frame systems. Within a phase, systems declaring their component access may run
+ * concurrently, see {@link SystemScheduler}. Deferred events are delivered at every sync point,
+ * before the recorded structural changes are applied. Each frame is recorded as a {@link FrameEvent}, and its
+ * work time feeds the {@link FrameBudgetGovernor}, which may throttle the update and late update phases.
+ */
+public class Simulation {
+	private static final Logger LOGGER = Logger.getLogger(Simulation.class.getName());
+
+	private final GameData gameData;
+	private final World world;
+
+	private final SystemScheduler<IUpdate> updateScheduler;
+	private final SystemScheduler<IFixedUpdate> fixedUpdateScheduler;
+	private final SystemScheduler<ILateUpdate> lateUpdateScheduler;
+
+	// Throttles non-critical systems when frames run over budget
+	private final FrameBudgetGovernor governor;
+
+	// Outstanding jobs are completed at every sync point
+	private final IJobScheduler jobScheduler;
+
+	// Events deferred during a phase are delivered at every sync point
+	private final IEventService eventService;
+
+	// for fixed-interval processing, one master clock for all fixed tick rates
+	private final FixedTimestep fixedTimestep = new FixedTimestep();
+	private final FixedRateSchedule fixedRates;
+	private long fixedTick = 0;
+
+	// Phase actions, created once so running a phase allocates nothing
+	private final Consumer<IUpdate> updateAction;
+	private final Consumer<IFixedUpdate> fixedUpdateAction;
+	private final Consumer<ILateUpdate> lateUpdateAction;
+	private final IntPredicate fixedDue;
+
+	/**
+	 * Create a simulation over the given systems
+	 *
+	 * @param gameData Game state data
+	 * @param world Game world with entities
+	 * @param updateServices Update systems sorted by priority
+	 * @param fixedUpdateServices Fixed update systems sorted by priority
+	 * @param lateUpdateServices Late update systems sorted by priority
+	 */
+	public Simulation(GameData gameData, World world, List<IUpdate> updateServices,
+					  List<IFixedUpdate> fixedUpdateServices, List<ILateUpdate> lateUpdateServices) {
+		this.gameData = gameData;
+		this.world = world;
+
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		SystemProfiler profiler = SystemProfiler.getInstance();
+		this.governor = FrameBudgetGovernor.getInstance();
+		this.updateScheduler = new SystemScheduler<>("update", updateServices, pool, profiler, governor);
+		// Fixed steps are already bounded by the step cap, and throttling them would drop simulated time
+		this.fixedUpdateScheduler = new SystemScheduler<>("fixed update", fixedUpdateServices, pool, profiler, null);
+		this.lateUpdateScheduler = new SystemScheduler<>("late update", lateUpdateServices, pool, profiler, governor);
+		this.jobScheduler = ServiceLoader.load(IJobScheduler.class).findFirst().orElse(null);
+		this.eventService = ServiceLoader.load(IEventService.class).findFirst().orElse(null);
+		this.fixedRates = new FixedRateSchedule(fixedUpdateServices, Time.getFixedUpdateRate());
+
+		this.updateAction = processor -> processor.update(gameData, world);
+		this.fixedUpdateAction = processor -> processor.fixedUpdate(gameData, world);
+		this.lateUpdateAction = postProcessor -> postProcessor.process(gameData, world);
+		this.fixedDue = index -> fixedRates.isDue(index, fixedTick);
+	}
+
+	/**
+	 * Run one frame
+	 *
+	 * @param deltaTime Frame time in seconds
+	 */
+	public void step(double deltaTime) {
+		Time.update(deltaTime);
+		gameData.setDeltaTime((float) deltaTime);
+
+		if (Time.isPaused()) {
+			gameData.setFixedSteps(0);
+			return; // Game is paused
+		}
+
+		FrameEvent frame = new FrameEvent();
+		frame.begin();
+		boolean traced = frame.isEnabled();
+		long frameStart = System.nanoTime();
+		long fixedStart = traced ? frameStart : 0L;
+
+		fixedUpdate();
+		long updateStart = traced ? System.nanoTime() : 0L;
+
+		processUpdateSystems();
+
+		playbackCommands();
+		long lateStart = traced ? System.nanoTime() : 0L;
+
+		processLateUpdateSystems();
+
+		playbackCommands();
+
+		Input.update();
+
+		governor.endFrame(System.nanoTime() - frameStart);
+
+		if (frame.shouldCommit()) {
+			frame.frame = Time.getFrameCount();
+			frame.deltaTime = (long) (deltaTime * 1_000_000_000.0);
+			frame.fixedSteps = gameData.getFixedSteps();
+			frame.fixedUpdateTime = updateStart - fixedStart;
+			frame.updateTime = lateStart - updateStart;
+			frame.lateUpdateTime = System.nanoTime() - lateStart;
+			frame.commit();
+		}
+	}
+
+	/**
+	 * Get the number of fixed steps skipped because frames exceeded the step cap
+	 *
+	 * @return Total dropped steps
+	 */
+	public long getDroppedSteps() {
+		return fixedTimestep.getDroppedSteps();
+	}
+
+	/**
+	 * Run one master tick for every master step that fits in the accumulated time.
+	 * Each tick runs the fixed update systems whose own rate is due on it.
+	 */
+	private void fixedUpdate() {
+		int steps = fixedTimestep.advance(Time.getDeltaTime(), 1.0 / fixedRates.getMasterRate(),
+				Time.getMaxFixedSteps() * fixedRates.getBaseInterval());
+
+		for (int i = 0; i < steps; i++) {
+			processFixedUpdateSystems();
+			fixedTick++;
+
+			playbackCommands();
+		}
+
+		gameData.setFixedSteps(steps);
+		gameData.setFixedClock(fixedRates.getMasterRate(), fixedTick);
+		float alpha = (float) (fixedTimestep.getAccumulator() * fixedRates.getMasterRate());
+		gameData.setInterpolationAlpha(Math.min(1.0f, Math.max(0.0f, alpha)));
+	}
+
+	/**
+	 * Process all update systems.
+	 */
+	private void processUpdateSystems() {
+		updateScheduler.run(updateAction);
+	}
+
+	/**
+	 * Process the fixed update systems due on the current master tick.
+	 */
+	private void processFixedUpdateSystems() {
+		fixedUpdateScheduler.run(fixedUpdateAction, fixedDue);
+	}
+
+	/**
+	 * Wait for jobs scheduled during the previous phase, deliver the events it deferred,
+	 * then apply the structural changes it recorded.
+	 */
+	private void playbackCommands() {
+		if (jobScheduler != null) {
+			jobScheduler.completeAll();
+		}
+
+		if (eventService != null) {
+			eventService.dispatchDeferred();
+		}
+
+		try {
+			world.getCommandBuffer().playback();
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error applying entity commands", e);
+		}
+	}
+
+	/**
+	 * Process all late update systems.
+	 */
+	private void processLateUpdateSystems() {
+		lateUpdateScheduler.run(lateUpdateAction);
+	}
+}
@@ -0,0 +1,313 @@
+package dk.sdu.mmmi.cbse.core;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+import dk.sdu.mmmi.cbse.common.data.ComponentTypes;
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
+import dk.sdu.mmmi.cbse.common.services.ICriticality;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
+import dk.sdu.mmmi.cbse.core.profiling.SystemTickEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the systems of one game loop phase, in parallel where their component access allows.
+ *
+ * Systems are ordered by priority. A system depends on every earlier system it conflicts with,
+ * meaning one of them writes a component type the other reads or writes. Systems that do not
+ * implement {@link IComponentAccess} conflict with everything and run alone on the calling thread.
+ * The resulting dependency graph is built once; each run dispatches ready systems to a ForkJoinPool
+ * as their dependencies finish. The run state is allocated up front, so a run allocates nothing itself. If a profiler is given, every invocation is timed while it is enabled.
+ * Every invocation is also a {@link SystemTickEvent} for the flight recorder. If a governor is given,
+ * systems implementing {@link ICriticality} may be throttled while frames run over budget.
+ *
+ * @param <S> System service type of the phase
+ */
+public class SystemScheduler<S> {
+	private static final Logger LOGGER = Logger.getLogger(SystemScheduler.class.getName());
+
+	private final String phase;
+	private final List<S> systems;
+	private final ForkJoinPool pool;
+	private final SystemProfiler profiler;
+	private final SystemProfiler.Window[] windows;
+	private final String[] names;
+	private final FrameBudgetGovernor governor;
+	private final Criticality[] criticality;
+	private final boolean[] active;
+
+	private final boolean[] exclusive;
+	private final int[][] successors;
+	private final int[] dependencyCounts;
+	private final boolean parallel;
+
+	// Run state, reused by every run on the calling thread
+	private final int[] pending;
+	private final int[] ready;
+	private int readyTail;
+
+	// Pool workers append finished system indices here and wake the calling thread
+	private final Runnable[] tasks;
+	private final AtomicIntegerArray finished;
+	private final AtomicInteger finishedCount = new AtomicInteger();
+	private Consumer<S> currentAction;
+	private boolean currentTimed;
+	private Thread caller;
+
+	/**
+	 * Create a scheduler for a phase
+	 *
+	 * @param phase Phase name for logging
+	 * @param systems Systems sorted by priority
+	 * @param pool Pool running systems off the calling thread
+	 */
+	public SystemScheduler(String phase, List<S> systems, ForkJoinPool pool) {
+		this(phase, systems, pool, null);
+	}
+
+	/**
+	 * Create a scheduler for a phase, timing each system with a profiler
+	 *
+	 * @param phase Phase name for logging
+	 * @param systems Systems sorted by priority
+	 * @param pool Pool running systems off the calling thread
+	 * @param profiler Profiler to record invocation times into, or null
+	 */
+	public SystemScheduler(String phase, List<S> systems, ForkJoinPool pool, SystemProfiler profiler) {
+		this(phase, systems, pool, profiler, null);
+	}
+
+	/**
+	 * Create a scheduler for a phase, timing each system and throttling non-critical ones under load
+	 *
+	 * @param phase Phase name for logging
+	 * @param systems Systems sorted by priority
+	 * @param pool Pool running systems off the calling thread
+	 * @param profiler Profiler to record invocation times into, or null
+	 * @param governor Governor deciding which systems run each frame, or null to always run all
+	 */
+	public SystemScheduler(String phase, List<S> systems, ForkJoinPool pool, SystemProfiler profiler,
+						   FrameBudgetGovernor governor) {
+		this.phase = phase;
+		this.systems = List.copyOf(systems);
+		this.pool = pool;
+		this.profiler = profiler;
+		this.governor = governor;
+
+		int count = this.systems.size();
+		windows = new SystemProfiler.Window[count];
+		names = new String[count];
+		criticality = new Criticality[count];
+		active = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			S system = this.systems.get(i);
+			names[i] = system.getClass().getSimpleName();
+			criticality[i] = system instanceof ICriticality critical ? critical.getCriticality() : Criticality.CRITICAL;
+		}
+		if (profiler != null) {
+			for (int i = 0; i < count; i++) {
+				windows[i] = profiler.register(phase, this.systems.get(i));
+			}
+		}
+		long[] reads = new long[count];
+		long[] writes = new long[count];
+		exclusive = new boolean[count];
+		int declared = 0;
+
+		for (int i = 0; i < count; i++) {
+			if (this.systems.get(i) instanceof IComponentAccess access) {
+				writes[i] = mask(access.getWrites());
+				reads[i] = mask(access.getReads()) | writes[i];
+				declared++;
+			} else {
+				exclusive[i] = true;
+			}
+		}
+
+		List<List<Integer>> edges = new ArrayList<>(count);
+		dependencyCounts = new int[count];
+		for (int i = 0; i < count; i++) {
+			List<Integer> next = new ArrayList<>();
+			for (int j = i + 1; j < count; j++) {
+				if (conflicts(i, j, reads, writes)) {
+					next.add(j);
+					dependencyCounts[j]++;
+				}
+			}
+			edges.add(next);
+		}
+
+		successors = new int[count][];
+		for (int i = 0; i < count; i++) {
+			successors[i] = edges.get(i).stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		parallel = declared > 1 && pool.getParallelism() > 1;
+
+		pending = new int[count];
+		ready = new int[count];
+		finished = new AtomicIntegerArray(count);
+		tasks = new Runnable[count];
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			tasks[i] = () -> {
+				try {
+					runSafely(index, currentAction, currentTimed);
+				} finally {
+					finished.set(finishedCount.getAndIncrement(), index);
+					LockSupport.unpark(caller);
+				}
+			};
+		}
+
+		LOGGER.log(Level.INFO, "Scheduled {0} {1} systems, {2} with declared component access, parallel: {3}",
+				new Object[]{count, phase, declared, parallel});
+	}
+
+	/**
+	 * Run every system once, respecting the dependency graph
+	 *
+	 * @param action Invokes the phase method on a system
+	 */
+	public void run(Consumer<S> action) {
+		run(action, index -> true);
+	}
+
+	/**
+	 * Run the selected systems once, respecting the dependency graph.
+	 * Systems left out release their dependents as if they had run.
+	 *
+	 * @param action Invokes the phase method on a system
+	 * @param due Selects systems by their index in priority order
+	 */
+	public void run(Consumer<S> action, IntPredicate due) {
+		// Sampled once, so a disabled profiler costs nothing per system
+		boolean timed = profiler != null && profiler.isEnabled();
+
+		for (int i = 0, count = systems.size(); i < count; i++) {
+			active[i] = due.test(i) && (governor == null || governor.shouldRun(criticality[i], i));
+		}
+
+		if (!parallel) {
+			for (int i = 0, count = systems.size(); i < count; i++) {
+				if (active[i]) {
+					runSafely(i, action, timed);
+				}
+			}
+			return;
+		}
+
+		int count = systems.size();
+		System.arraycopy(dependencyCounts, 0, pending, 0, count);
+		readyTail = 0;
+		for (int i = 0; i < count; i++) {
+			finished.set(i, -1);
+			if (pending[i] == 0) {
+				ready[readyTail++] = i;
+			}
+		}
+		finishedCount.set(0);
+		// Published to the workers by pool.execute
+		currentAction = action;
+		currentTimed = timed;
+		caller = Thread.currentThread();
+
+		int readyHead = 0;
+		int finishedHead = 0;
+		int done = 0;
+		int running = 0;
+		while (done < count) {
+			// Hand all but one ready system to the pool and run the last one here
+			while (readyHead < readyTail) {
+				int index = ready[readyHead++];
+				if (!active[index]) {
+					// Throttled this frame, release its dependents straight away
+					complete(index);
+					done++;
+				} else if (exclusive[index] || readyHead == readyTail) {
+					runSafely(index, action, timed);
+					complete(index);
+					done++;
+				} else {
+					running++;
+					pool.execute(tasks[index]);
+				}
+			}
+
+			if (running == 0) {
+				continue;
+			}
+
+			int index;
+			while ((index = finished.get(finishedHead)) < 0) {
+				LockSupport.park(this);
+				if (Thread.interrupted()) {
+					Thread.currentThread().interrupt();
+					LOGGER.log(Level.WARNING, "Interrupted while running {0} systems", phase);
+					return;
+				}
+			}
+			finishedHead++;
+			running--;
+			complete(index);
+			done++;
+		}
+	}
+
+	/**
+	 * Check if the scheduler dispatches systems to the pool
+	 *
+	 * @return true if at least two systems may run concurrently
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	private void complete(int index) {
+		for (int next : successors[index]) {
+			if (--pending[next] == 0) {
+				ready[readyTail++] = next;
+			}
+		}
+	}
+
+	private boolean conflicts(int a, int b, long[] reads, long[] writes) {
+		if (exclusive[a] || exclusive[b]) {
+			return true;
+		}
+		return (writes[a] & reads[b]) != 0 || (writes[b] & reads[a]) != 0;
+	}
+
+	private void runSafely(int index, Consumer<S> action, boolean timed) {
+		SystemTickEvent tick = new SystemTickEvent();
+		tick.begin();
+		long start = timed ? System.nanoTime() : 0L;
+		try {
+			action.accept(systems.get(index));
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error in " + phase + " system " + names[index], e);
+		}
+		if (timed) {
+			windows[index].add(System.nanoTime() - start);
+		}
+		if (tick.shouldCommit()) {
+			tick.phase = phase;
+			tick.system = names[index];
+			tick.commit();
+		}
+	}
+
+	private static long mask(Set<Class<? extends IComponent>> componentTypes) {
+		return componentTypes == null ? 0L : ComponentTypes.mask(componentTypes.toArray(new Class<?>[0]));
+	}
+}
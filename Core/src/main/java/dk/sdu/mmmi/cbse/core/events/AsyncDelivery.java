@@ -0,0 +1,80 @@
+package dk.sdu.mmmi.cbse.core.events;
+
+import dk.sdu.mmmi.cbse.common.events.IAsyncEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded mailbox delivering events to one asynchronous listener.
+ * <p>
+ * At most one virtual thread drains a mailbox at a time, so the listener sees its events in
+ * the order they were submitted and never runs concurrently with itself.
+ */
+final class AsyncDelivery {
+    private static final Logger LOGGER = Logger.getLogger(AsyncDelivery.class.getName());
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-listener-", 0).factory());
+
+    private final String listenerName;
+    private final BlockingQueue<Runnable> backlog;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    AsyncDelivery(IAsyncEventListener<?> listener) {
+        this.listenerName = listener.getClass().getName();
+        this.backlog = new ArrayBlockingQueue<>(Math.max(1, listener.getBacklogLimit()));
+    }
+
+    /**
+     * Queue a delivery, starting a virtual thread if none is draining this mailbox
+     *
+     * @param delivery Calls the listener
+     */
+    void submit(Runnable delivery) {
+        if (!backlog.offer(delivery)) {
+            long count = dropped.incrementAndGet();
+            // Report the 1st, 2nd, 4th, 8th... drop so a stuck listener cannot flood the log
+            if (Long.bitCount(count) == 1) {
+                LOGGER.log(Level.WARNING, "Event backlog of {0} full, {1} events dropped so far",
+                        new Object[]{listenerName, count});
+            }
+            return;
+        }
+
+        if (scheduled.compareAndSet(false, true)) {
+            EXECUTOR.execute(this::drain);
+        }
+    }
+
+    /**
+     * Get the number of events dropped because the backlog was full
+     *
+     * @return Dropped events
+     */
+    long getDropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        do {
+            Runnable delivery;
+            while ((delivery = backlog.poll()) != null) {
+                try {
+                    delivery.run();
+                } catch (Exception e) {
+                    LOGGER.log(Level.SEVERE, "Error notifying listener: " + listenerName, e);
+                }
+            }
+            scheduled.set(false);
+            // A submit may have queued after the last poll but before the flag was cleared
+        } while (!backlog.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+}
@@ -1,90 +1,340 @@
 package dk.sdu.mmmi.cbse.core.events;
 
+import dk.sdu.mmmi.cbse.common.events.IAsyncEventListener;
+import dk.sdu.mmmi.cbse.common.events.IBatchEventListener;
 import dk.sdu.mmmi.cbse.common.events.IEvent;
 import dk.sdu.mmmi.cbse.common.events.IEventListener;
 import dk.sdu.mmmi.cbse.common.services.IEventService;
+import dk.sdu.mmmi.cbse.core.profiling.EventDispatchEvent;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Singleton implementation of the event service to ensure all systems use the same instance.
+ * <p>
+ * Listeners are kept in copy-on-write arrays per subscribed type. Listeners may subscribe to an
+ * event class, a superclass or an event interface. For each published class, the listeners of all
+ * its supertypes are flattened into a dispatch table on first use and cached until the next
+ * subscription change, so publishing takes no lock and does not allocate while listeners run.
+ * <p>
+ * Deferred events go into a pre-allocated ring buffer shared by all instances. Any thread may
+ * queue into it; the game loop drains it at its sync points. If the ring is full, the event is
+ * delivered immediately instead of being dropped.
+ * <p>
+ * Listeners implementing {@link IAsyncEventListener} are not called by the publishing thread.
+ * Their events go to a bounded mailbox per listener, drained in order on a virtual thread.
  */
 public class EventService implements IEventService {
     private static final Logger LOGGER = Logger.getLogger(EventService.class.getName());
 
-    private static final Map<Class<? extends IEvent>, List<IEventListener<? extends IEvent>>> STATIC_LISTENERS = new HashMap<>();
-    private static int instanceCount = 0;
+    private static final IEventListener<?>[] NO_LISTENERS = new IEventListener<?>[0];
+
+    private static final Map<Class<?>, IEventListener<?>[]> STATIC_LISTENERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, DispatchTable> DISPATCH_TABLES = new ConcurrentHashMap<>();
+    private static final AtomicLong VERSION = new AtomicLong();
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    // Ring of deferred events, a slot is null once drained
+    private static final int DEFERRED_CAPACITY = 4096;
+    private static final int DEFERRED_MASK = DEFERRED_CAPACITY - 1;
+    private static final AtomicReferenceArray<IEvent> DEFERRED = new AtomicReferenceArray<>(DEFERRED_CAPACITY);
+    private static final AtomicLong DEFERRED_TAIL = new AtomicLong();
+    private static final AtomicBoolean DISPATCHING = new AtomicBoolean();
+    private static final AtomicBoolean OVERFLOW_REPORTED = new AtomicBoolean();
+    private static volatile long deferredHead = 0;
+
+    // Mailboxes of asynchronous listeners, created on first delivery
+    private static final Map<IEventListener<?>, AsyncDelivery> ASYNC_DELIVERIES = new ConcurrentHashMap<>();
+
+    /**
+     * Listeners for one published class, valid for one version of the subscriptions
+     */
+    private record DispatchTable(long version, IEventListener<?>[] listeners) {
+    }
 
     public EventService() {
-        instanceCount++;
-        LOGGER.log(Level.INFO, "EventService instance #{0} created (using shared static listeners)", instanceCount);
+        int instance = INSTANCE_COUNT.incrementAndGet();
+        LOGGER.log(Level.INFO, "EventService instance #{0} created (using shared static listeners)", instance);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends IEvent> void subscribe(Class<T> eventType, IEventListener<T> listener) {
-        synchronized (STATIC_LISTENERS) {
-            List<IEventListener<? extends IEvent>> listeners =
-                    STATIC_LISTENERS.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>());
+        boolean[] added = {false};
+        IEventListener<?>[] listeners = STATIC_LISTENERS.compute(eventType, (type, current) -> {
+            IEventListener<?>[] existing = current == null ? NO_LISTENERS : current;
 
             // Prevent duplicate subscriptions - only add if not already present
-            if (!listeners.contains(listener)) {
-                listeners.add(listener);
-                LOGGER.log(Level.INFO, "Subscribed {0} to {1} (total listeners: {2})",
-                        new Object[]{listener.getClass().getName(), eventType.getName(), listeners.size()});
-            } else {
-                LOGGER.log(Level.FINE, "Listener {0} already subscribed to {1}, skipping duplicate",
-                        new Object[]{listener.getClass().getName(), eventType.getName()});
+            for (IEventListener<?> subscribed : existing) {
+                if (subscribed == listener) {
+                    return existing;
+                }
             }
+            IEventListener<?>[] copy = Arrays.copyOf(existing, existing.length + 1);
+            copy[existing.length] = listener;
+            added[0] = true;
+            return copy;
+        });
+
+        if (added[0]) {
+            invalidateDispatchTables();
+            LOGGER.log(Level.INFO, "Subscribed {0} to {1} (total listeners: {2})",
+                    new Object[]{listener.getClass().getName(), eventType.getName(), listeners.length});
+        } else {
+            LOGGER.log(Level.FINE, "Listener {0} already subscribed to {1}, skipping duplicate",
+                    new Object[]{listener.getClass().getName(), eventType.getName()});
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends IEvent> void unsubscribe(Class<T> eventType, IEventListener<T> listener) {
-        synchronized (STATIC_LISTENERS) {
-            if (STATIC_LISTENERS.containsKey(eventType)) {
-                STATIC_LISTENERS.get(eventType).remove(listener);
-                LOGGER.log(Level.FINE, "Unsubscribed {0} from {1}",
-                        new Object[]{listener.getClass().getName(), eventType.getName()});
+        boolean[] removed = {false};
+        STATIC_LISTENERS.computeIfPresent(eventType, (type, current) -> {
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == listener) {
+                    removed[0] = true;
+                    if (current.length == 1) {
+                        return null;
+                    }
+                    IEventListener<?>[] copy = new IEventListener<?>[current.length - 1];
+                    System.arraycopy(current, 0, copy, 0, i);
+                    System.arraycopy(current, i + 1, copy, i, current.length - i - 1);
+                    return copy;
+                }
             }
+            return current;
+        });
+
+        if (removed[0]) {
+            invalidateDispatchTables();
+            LOGGER.log(Level.FINE, "Unsubscribed {0} from {1}",
+                    new Object[]{listener.getClass().getName(), eventType.getName()});
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends IEvent> void publish(T event) {
         if (event == null) {
             LOGGER.log(Level.WARNING, "Attempted to publish null event - ignoring");
             return;
         }
+        dispatch(event, null);
+    }
 
-        Class<? extends IEvent> eventType = event.getClass();
+    @Override
+    public <T extends IEvent> void publishDeferred(T event) {
+        if (event == null) {
+            LOGGER.log(Level.WARNING, "Attempted to publish null event - ignoring");
+            return;
+        }
 
-        synchronized (STATIC_LISTENERS) {
-            if (!STATIC_LISTENERS.containsKey(eventType)) {
-                LOGGER.log(Level.WARNING, "No listeners registered for event type: {0}", eventType.getName());
+        long tail;
+        do {
+            tail = DEFERRED_TAIL.get();
+            if (tail - deferredHead >= DEFERRED_CAPACITY) {
+                if (OVERFLOW_REPORTED.compareAndSet(false, true)) {
+                    LOGGER.log(Level.WARNING, "Deferred event queue full ({0} events), delivering {1} immediately",
+                            new Object[]{DEFERRED_CAPACITY, event.getClass().getName()});
+                }
+                dispatch(event, null);
                 return;
             }
+        } while (!DEFERRED_TAIL.compareAndSet(tail, tail + 1));
+
+        DEFERRED.set((int) (tail & DEFERRED_MASK), event);
+    }
+
+    @Override
+    public int dispatchDeferred() {
+        // Single consumer; a listener calling back in here leaves new events for the next sync point
+        if (!DISPATCHING.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            long head = deferredHead;
+            long end = DEFERRED_TAIL.get();
+            if (head == end) {
+                return 0;
+            }
+
+            Map<IEventListener<?>, List<IEvent>> batches = new LinkedHashMap<>();
+            int count = 0;
+            while (head < end) {
+                int slot = (int) (head & DEFERRED_MASK);
+                IEvent event = DEFERRED.get(slot);
+                if (event == null) {
+                    break; // Claimed but not yet written, picked up next time
+                }
+                DEFERRED.set(slot, null);
+                deferredHead = ++head;
+
+                dispatch(event, batches);
+                count++;
+            }
+
+            deliverBatches(batches);
+            return count;
+        } finally {
+            DISPATCHING.set(false);
+        }
+    }
+
+    /**
+     * Notify the listeners of one event. Batch listeners are collected into batches if given.
+     */
+    @SuppressWarnings("unchecked")
+    private static void dispatch(IEvent event, Map<IEventListener<?>, List<IEvent>> batches) {
+        Class<? extends IEvent> eventType = event.getClass();
+        EventDispatchEvent dispatch = new EventDispatchEvent();
+        dispatch.begin();
+
+        IEventListener<?>[] listeners = dispatchTable(eventType);
+        if (listeners.length == 0) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "No listeners registered for event type: {0}", eventType.getName());
+            }
+            return;
+        }
+
+        for (IEventListener<?> listener : listeners) {
+            if (batches != null && listener instanceof IBatchEventListener) {
+                batches.computeIfAbsent(listener, key -> new ArrayList<>()).add(event);
+                continue;
+            }
+            if (listener instanceof IAsyncEventListener<?> async) {
+                asyncDelivery(async).submit(() -> ((IEventListener<IEvent>) listener).onEvent(event));
+                continue;
+            }
+            try {
+                ((IEventListener<IEvent>) listener).onEvent(event);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error notifying listener: " + listener.getClass().getName(), e);
+            }
+        }
+
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.log(Level.FINEST, "Published event {0} to {1} listeners",
+                    new Object[]{eventType.getName(), listeners.length});
+        }
+
+        if (dispatch.shouldCommit()) {
+            dispatch.eventType = eventType.getName();
+            dispatch.listenerCount = listeners.length;
+            dispatch.commit();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void deliverBatches(Map<IEventListener<?>, List<IEvent>> batches) {
+        for (Map.Entry<IEventListener<?>, List<IEvent>> batch : batches.entrySet()) {
+            IBatchEventListener<IEvent> listener = (IBatchEventListener<IEvent>) batch.getKey();
+            List<IEvent> events = batch.getValue();
+            if (listener instanceof IAsyncEventListener<?> async) {
+                asyncDelivery(async).submit(() -> listener.onEvents(events));
+                continue;
+            }
+            try {
+                listener.onEvents(events);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error notifying batch listener: " + batch.getKey().getClass().getName(), e);
+            }
+        }
+    }
 
-            List<IEventListener<? extends IEvent>> eventListeners = STATIC_LISTENERS.get(eventType);
-            LOGGER.log(Level.INFO, "Publishing event {0} to {1} listeners",
-                    new Object[]{eventType.getName(), eventListeners.size()});
-
-            for (IEventListener<? extends IEvent> listener : eventListeners) {
-                try {
-                    LOGGER.log(Level.INFO, "Notifying listener: {0}", listener.getClass().getName());
-                    ((IEventListener<T>) listener).onEvent(event);
-                    LOGGER.log(Level.INFO, "Successfully notified listener: {0}", listener.getClass().getName());
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "Error notifying listener: " + listener.getClass().getName(), e);
+    /**
+     * Get the number of events dropped because an asynchronous listener's backlog was full
+     *
+     * @return Dropped events across all asynchronous listeners
+     */
+    public long getDroppedAsyncEvents() {
+        long dropped = 0;
+        for (AsyncDelivery delivery : ASYNC_DELIVERIES.values()) {
+            dropped += delivery.getDropped();
+        }
+        return dropped;
+    }
+
+    private static AsyncDelivery asyncDelivery(IAsyncEventListener<?> listener) {
+        return ASYNC_DELIVERIES.computeIfAbsent(listener, key -> new AsyncDelivery(listener));
+    }
+
+    /**
+     * Get the cached listeners of a published class, rebuilding the table if subscriptions changed
+     */
+    private static IEventListener<?>[] dispatchTable(Class<?> eventType) {
+        long version = VERSION.get();
+        DispatchTable table = DISPATCH_TABLES.get(eventType);
+        if (table != null && table.version() == version) {
+            return table.listeners();
+        }
+
+        // Built from the subscriptions seen at this version; a concurrent change bumps the version again
+        IEventListener<?>[] listeners = collectListeners(eventType);
+        DISPATCH_TABLES.put(eventType, new DispatchTable(version, listeners));
+        return listeners;
+    }
+
+    /**
+     * Flatten the listeners of a class and all its supertypes, the exact type first
+     */
+    private static IEventListener<?>[] collectListeners(Class<?> eventType) {
+        Set<IEventListener<?>> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<IEventListener<?>> ordered = new ArrayList<>();
+
+        for (Class<?> type : supertypes(eventType)) {
+            IEventListener<?>[] subscribed = STATIC_LISTENERS.get(type);
+            if (subscribed == null) {
+                continue;
+            }
+            for (IEventListener<?> listener : subscribed) {
+                if (listeners.add(listener)) {
+                    ordered.add(listener);
                 }
             }
         }
+        return ordered.isEmpty() ? NO_LISTENERS : ordered.toArray(NO_LISTENERS);
+    }
+
+    /**
+     * Get a class, its superclasses and all its interfaces, nearest first
+     */
+    private static Set<Class<?>> supertypes(Class<?> eventType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(eventType);
+
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!types.add(type)) {
+                continue;
+            }
+            if (type.getSuperclass() != null) {
+                pending.add(type.getSuperclass());
+            }
+            pending.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return types;
+    }
+
+    private static void invalidateDispatchTables() {
+        VERSION.incrementAndGet();
+        DISPATCH_TABLES.clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package dk.sdu.mmmi.cbse.core.jobs;
+
+import dk.sdu.mmmi.cbse.common.services.IJobHandle;
+import dk.sdu.mmmi.cbse.common.services.IJobScheduler;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Job scheduler running on a dedicated work-stealing pool.
+ *
+ * Parallel-for jobs are split recursively down to the batch size, so idle workers steal the
+ * remaining halves of busy ones. A job fitting in a single batch without dependencies runs
+ * directly on the calling thread. The module provides one shared instance through {@link #provider()}.
+ */
+public class JobScheduler implements IJobScheduler {
+	private static final Logger LOGGER = Logger.getLogger(JobScheduler.class.getName());
+
+	private static final JobScheduler INSTANCE =
+			new JobScheduler(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+	private final ForkJoinPool pool;
+	private final Queue<JobHandle> outstanding = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Get the shared scheduler, used by the ServiceLoader
+	 *
+	 * @return Shared instance
+	 */
+	public static JobScheduler provider() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Create a scheduler with its own pool
+	 *
+	 * @param workers Number of worker threads
+	 */
+	public JobScheduler(int workers) {
+		this.pool = new ForkJoinPool(workers, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("job-worker-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+
+		LOGGER.log(Level.INFO, "JobScheduler started with {0} workers", workers);
+	}
+
+	@Override
+	public IJobHandle schedule(Runnable job, IJobHandle... dependencies) {
+		return track(after(dependencies).thenRunAsync(job, pool));
+	}
+
+	@Override
+	public IJobHandle parallelFor(int count, int batchSize, RangeJob job, IJobHandle... dependencies) {
+		int batch = Math.max(1, batchSize);
+
+		if (dependencies.length == 0 && count <= batch) {
+			// Not worth a hand-off
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			try {
+				if (count > 0) {
+					job.execute(0, count);
+				}
+				future.complete(null);
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			return new JobHandle(future);
+		}
+
+		return track(after(dependencies).thenRunAsync(() -> new RangeTask(job, 0, count, batch).invoke(), pool));
+	}
+
+	@Override
+	public void completeAll() {
+		JobHandle handle;
+		while ((handle = outstanding.poll()) != null) {
+			try {
+				handle.complete();
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.SEVERE, "Job failed", e);
+			}
+		}
+	}
+
+	@Override
+	public int getWorkerCount() {
+		return pool.getParallelism();
+	}
+
+	private JobHandle track(CompletableFuture<Void> future) {
+		JobHandle handle = new JobHandle(future);
+		outstanding.add(handle);
+		return handle;
+	}
+
+	private static CompletableFuture<Void> after(IJobHandle... dependencies) {
+		if (dependencies.length == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[dependencies.length];
+		for (int i = 0; i < dependencies.length; i++) {
+			if (!(dependencies[i] instanceof JobHandle handle)) {
+				throw new IllegalArgumentException("Dependency was not created by this scheduler: " + dependencies[i]);
+			}
+			futures[i] = handle.future;
+		}
+		return CompletableFuture.allOf(futures);
+	}
+
+	/**
+	 * Handle wrapping the future of a job
+	 */
+	private static final class JobHandle implements IJobHandle {
+		private final CompletableFuture<Void> future;
+
+		private JobHandle(CompletableFuture<Void> future) {
+			this.future = future;
+		}
+
+		@Override
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		@Override
+		public void complete() {
+			try {
+				future.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Splits an index range in halves until it fits in one batch
+	 */
+	private static final class RangeTask extends RecursiveAction {
+		private final RangeJob job;
+		private final int start;
+		private final int end;
+		private final int batchSize;
+
+		private RangeTask(RangeJob job, int start, int end, int batchSize) {
+			this.job = job;
+			this.start = start;
+			this.end = end;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= batchSize) {
+				job.execute(start, end);
+				return;
+			}
+
+			int middle = start + (end - start) / 2;
+			invokeAll(new RangeTask(job, start, middle, batchSize), new RangeTask(job, middle, end, batchSize));
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package dk.sdu.mmmi.cbse.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the dispatch of one game event to its listeners.
+ */
+@Name("dk.sdu.mmmi.cbse.EventDispatch")
+@Label("Event Dispatch")
+@Category({"Asteroids", "Events"})
+@Description("Publishing a game event to all its listeners")
+public class EventDispatchEvent extends jdk.jfr.Event {
+	@Label("Event Type")
+	public String eventType;
+
+	@Label("Listener Count")
+	public int listenerCount;
+}
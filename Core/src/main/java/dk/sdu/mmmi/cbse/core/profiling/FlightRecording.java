@@ -0,0 +1,48 @@
+package dk.sdu.mmmi.cbse.core.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Starts a flight recording from inside the game, written to a file when the JVM exits.
+ */
+public final class FlightRecording {
+	private static final Logger LOGGER = Logger.getLogger(FlightRecording.class.getName());
+
+	private FlightRecording() {
+
+	}
+
+	/**
+	 * Start recording with the JDK "profile" settings plus all game events
+	 *
+	 * @param destination File the recording is dumped to on exit
+	 * @return The running recording, or null if it could not be started
+	 */
+	public static Recording start(Path destination) {
+		try {
+			Recording recording = new Recording(Configuration.getConfiguration("profile"));
+			recording.setName("Asteroids");
+			recording.enable(FrameEvent.class);
+			recording.enable(SystemTickEvent.class);
+			recording.enable(EventDispatchEvent.class);
+			recording.enable("dk.sdu.mmmi.cbse.CollisionPass");
+			recording.setDestination(destination);
+			recording.setToDisk(true);
+			recording.setDumpOnExit(true);
+			recording.start();
+
+			LOGGER.log(Level.INFO, "Flight recording started, writing to {0} on exit", destination.toAbsolutePath());
+			return recording;
+		} catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+			LOGGER.log(Level.SEVERE, "Could not start flight recording", e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package dk.sdu.mmmi.cbse.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event spanning one simulation frame, with the time spent in each phase.
+ */
+@Name("dk.sdu.mmmi.cbse.Frame")
+@Label("Frame")
+@Category({"Asteroids", "Game Loop"})
+@Description("One frame of the system pipeline")
+public class FrameEvent extends jdk.jfr.Event {
+	@Label("Frame Number")
+	public long frame;
+
+	@Label("Delta Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long deltaTime;
+
+	@Label("Fixed Steps")
+	public int fixedSteps;
+
+	@Label("Fixed Update Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long fixedUpdateTime;
+
+	@Label("Update Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long updateTime;
+
+	@Label("Late Update Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long lateUpdateTime;
+}
@@ -0,0 +1,143 @@
+package dk.sdu.mmmi.cbse.core.profiling;
+
+import dk.sdu.mmmi.cbse.common.data.SystemTiming;
+import dk.sdu.mmmi.cbse.common.services.ISystemProfiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each system invocation takes, in a rolling window per system.
+ *
+ * Recording is a single array store, so it can stay on in normal play. Percentiles are only computed
+ * when timings are requested. Each window has one writer, the thread running its system; readers may
+ * see a sample being overwritten, which is fine for statistics.
+ */
+public final class SystemProfiler implements ISystemProfiler {
+	private static final SystemProfiler INSTANCE = new SystemProfiler();
+
+	/**
+	 * Number of recent invocations kept per system
+	 */
+	public static final int WINDOW_SIZE = 256;
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private volatile boolean enabled = false;
+
+	/**
+	 * Get the shared profiler
+	 *
+	 * @return Shared instance
+	 */
+	public static SystemProfiler getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Get the shared profiler, used by the ServiceLoader
+	 *
+	 * @return Shared instance
+	 */
+	public static SystemProfiler provider() {
+		return INSTANCE;
+	}
+
+	private SystemProfiler() {
+
+	}
+
+	/**
+	 * Get the sample window for a system, creating it on first use.
+	 * A restarted game loop keeps recording into the same windows.
+	 *
+	 * @param phase Phase the system runs in
+	 * @param system System instance
+	 * @return Window to record the system's invocations into
+	 */
+	public Window register(String phase, Object system) {
+		String name = system.getClass().getSimpleName();
+		return windows.computeIfAbsent(phase + "/" + name, key -> new Window(phase, name));
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public List<SystemTiming> getTimings() {
+		List<SystemTiming> timings = new ArrayList<>();
+		for (Window window : windows.values()) {
+			SystemTiming timing = window.toTiming();
+			if (timing != null) {
+				timings.add(timing);
+			}
+		}
+		timings.sort(Comparator.comparingDouble(SystemTiming::p95Millis).reversed());
+		return timings;
+	}
+
+	@Override
+	public void reset() {
+		for (Window window : windows.values()) {
+			window.clear();
+		}
+	}
+
+	/**
+	 * Ring buffer of the most recent invocation times of one system
+	 */
+	public static final class Window {
+		private final String phase;
+		private final String system;
+		private final long[] samples = new long[WINDOW_SIZE];
+		private volatile long count = 0;
+
+		private Window(String phase, String system) {
+			this.phase = phase;
+			this.system = system;
+		}
+
+		/**
+		 * Record one invocation
+		 *
+		 * @param nanos Elapsed time in nanoseconds
+		 */
+		public void add(long nanos) {
+			long next = count;
+			samples[(int) (next % WINDOW_SIZE)] = nanos;
+			count = next + 1;
+		}
+
+		private void clear() {
+			count = 0;
+		}
+
+		private SystemTiming toTiming() {
+			int size = (int) Math.min(count, WINDOW_SIZE);
+			if (size == 0) {
+				return null;
+			}
+
+			long[] sorted = Arrays.copyOf(samples, size);
+			Arrays.sort(sorted);
+			return new SystemTiming(phase, system, size,
+					millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+					sorted[size - 1] / 1_000_000.0);
+		}
+
+		private static double millis(long[] sorted, double percentile) {
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package dk.sdu.mmmi.cbse.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning one invocation of a system.
+ */
+@Name("dk.sdu.mmmi.cbse.SystemTick")
+@Label("System Tick")
+@Category({"Asteroids", "Game Loop"})
+@Description("One invocation of an update, fixed update or late update system")
+public class SystemTickEvent extends jdk.jfr.Event {
+	@Label("Phase")
+	public String phase;
+
+	@Label("System")
+	public String system;
+}
@@ -133,4 +133,42 @@ public class ApplicationArguments {
             return defaultValue;
         }
     }
+
+    /**
+     * Get argument as long
+     *
+     * @param key Argument key
+     * @param defaultValue Default value if not found or not a number
+     * @return Argument as long
+     */
+    public static long getLong(String key, long defaultValue) {
+        if (!arguments.containsKey(key)) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(arguments.get(key));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get argument as double
+     *
+     * @param key Argument key
+     * @param defaultValue Default value if not found or not a number
+     * @return Argument as double
+     */
+    public static double getDouble(String key, double defaultValue) {
+        if (!arguments.containsKey(key)) {
+            return defaultValue;
+        }
+
+        try {
+            return Double.parseDouble(arguments.get(key));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package dk.sdu.mmmi.cbse.core.utils;
+
+/**
+ * Accumulator turning variable frame times into a whole number of fixed simulation steps.
+ *
+ * Each frame adds its delta time and consumes as many fixed steps as fit. The remainder carries
+ * over, so the long-run step rate matches the configured rate exactly. If a frame would need more
+ * than the maximum number of steps, the excess time is dropped to avoid a spiral of death.
+ */
+public final class FixedTimestep {
+	private double accumulator = 0.0;
+	private long droppedSteps = 0;
+
+	/**
+	 * Add frame time and get the number of fixed steps to run
+	 *
+	 * @param deltaTime Frame time in seconds
+	 * @param stepTime Fixed step length in seconds
+	 * @param maxSteps Maximum steps to run for this frame
+	 * @return Number of fixed steps due
+	 */
+	public int advance(double deltaTime, double stepTime, int maxSteps) {
+		accumulator += deltaTime;
+
+		int steps = (int) (accumulator / stepTime);
+		if (steps > maxSteps) {
+			droppedSteps += steps - maxSteps;
+			steps = maxSteps;
+			accumulator %= stepTime;
+		} else {
+			accumulator -= steps * stepTime;
+		}
+		return steps;
+	}
+
+	/**
+	 * Get the simulation time not yet consumed by a fixed step
+	 *
+	 * @return Leftover time in seconds
+	 */
+	public double getAccumulator() {
+		return accumulator;
+	}
+
+	/**
+	 * Get the number of steps skipped because a frame exceeded the step cap
+	 *
+	 * @return Total dropped steps
+	 */
+	public long getDroppedSteps() {
+		return droppedSteps;
+	}
+
+	/**
+	 * Discard accumulated time, e.g. after resuming from pause
+	 */
+	public void reset() {
+		accumulator = 0.0;
+	}
+}
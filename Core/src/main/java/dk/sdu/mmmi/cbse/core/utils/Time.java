@@ -8,11 +8,14 @@ package dk.sdu.mmmi.cbse.core.utils;
  */
 public final class Time {
 	// Fixed update rate configuration
-	public static final int FIXED_UPDATE_RATE = 60; // Hz
-	public static final float FIXED_DELTA_TIME = 1.0f / FIXED_UPDATE_RATE; // 0.01666 seconds
-	public static final int FIXED_UPDATE_INTERVAL_MS = 1000 / FIXED_UPDATE_RATE; // 16 milliseconds
+	public static final int DEFAULT_FIXED_UPDATE_RATE = 60; // Hz
+	public static final int DEFAULT_MAX_FIXED_STEPS = 5; // Catch-up cap per frame
 
-	// Delta time for bullet movement
+	private static volatile int fixedUpdateRate = DEFAULT_FIXED_UPDATE_RATE;
+	private static volatile float fixedDeltaTime = 1.0f / DEFAULT_FIXED_UPDATE_RATE;
+	private static volatile int maxFixedSteps = DEFAULT_MAX_FIXED_STEPS;
+
+	// Tick rate and step of fixed-rate bullet movement
 	public static final int BULLET_UPDATE_RATE = 120; // Hz
 	public static final float BULLET_DELTA_TIME = 1.0f / BULLET_UPDATE_RATE; // 0.0083 seconds
 
@@ -68,12 +71,55 @@ public final class Time {
 	 * @return Fixed delta time in seconds
 	 */
 	public static float getFixedDeltaTime() {
-		return FIXED_DELTA_TIME;
+		return fixedDeltaTime;
+	}
+
+	/**
+	 * Get the fixed update rate
+	 *
+	 * @return Fixed steps per simulated second
+	 */
+	public static int getFixedUpdateRate() {
+		return fixedUpdateRate;
+	}
+
+	/**
+	 * Set the fixed update rate
+	 *
+	 * @param rate Fixed steps per simulated second
+	 */
+	public static void setFixedUpdateRate(int rate) {
+		if (rate <= 0) {
+			throw new IllegalArgumentException("Fixed update rate must be positive: " + rate);
+		}
+		fixedUpdateRate = rate;
+		fixedDeltaTime = 1.0f / rate;
+	}
+
+	/**
+	 * Get the maximum number of fixed steps run in one frame
+	 *
+	 * @return Catch-up cap
+	 */
+	public static int getMaxFixedSteps() {
+		return maxFixedSteps;
+	}
+
+	/**
+	 * Set the maximum number of fixed steps run in one frame.
+	 * Time beyond the cap is dropped, so a long stall slows the game down instead of freezing it.
+	 *
+	 * @param steps Catch-up cap
+	 */
+	public static void setMaxFixedSteps(int steps) {
+		if (steps <= 0) {
+			throw new IllegalArgumentException("Max fixed steps must be positive: " + steps);
+		}
+		maxFixedSteps = steps;
 	}
 
 	/**
-	 * Get high-frequency delta time for smooth bullet movement
-	 * Uses smaller time steps for visual smoothness (temporal anti-aliasing)
+	 * Get the fixed step of systems ticking at BULLET_UPDATE_RATE
 	 *
 	 * @return Bullet delta time in seconds
 	 */
@@ -2,6 +2,7 @@ module Core {
     requires Common;
     requires java.logging;
     requires java.desktop;
+    requires jdk.jfr;
     requires javafx.graphics;
     requires javafx.controls;
 
@@ -15,9 +16,12 @@ module Core {
     uses dk.sdu.mmmi.cbse.common.services.ILateUpdate;
     uses dk.sdu.mmmi.cbse.common.services.IRenderingContext;
     uses dk.sdu.mmmi.cbse.common.services.IEventService;
+    uses dk.sdu.mmmi.cbse.common.services.IJobScheduler;
 
     exports dk.sdu.mmmi.cbse.core;
     exports dk.sdu.mmmi.cbse.core.input;
+    exports dk.sdu.mmmi.cbse.core.jobs;
+    exports dk.sdu.mmmi.cbse.core.profiling;
     exports dk.sdu.mmmi.cbse.core.utils;
     exports dk.sdu.mmmi.cbse.core.events;
     exports dk.sdu.mmmi.cbse.core.config;
@@ -26,6 +30,12 @@ module Core {
     // Hotfix
     provides dk.sdu.mmmi.cbse.common.services.IEventService
             with dk.sdu.mmmi.cbse.core.events.EventService;
+    provides dk.sdu.mmmi.cbse.common.services.IJobScheduler
+            with dk.sdu.mmmi.cbse.core.jobs.JobScheduler;
+    provides dk.sdu.mmmi.cbse.common.services.ISystemProfiler
+            with dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
+    provides dk.sdu.mmmi.cbse.common.services.IFrameBudget
+            with dk.sdu.mmmi.cbse.core.FrameBudgetGovernor;
 
     // Open packages to Spring for reflection
     opens dk.sdu.mmmi.cbse.core.config to spring.core, spring.beans, spring.context;
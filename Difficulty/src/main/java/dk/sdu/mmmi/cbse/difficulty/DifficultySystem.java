@@ -1,7 +1,9 @@
 package dk.sdu.mmmi.cbse.difficulty;
 
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IEventService;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commondifficulty.DifficultyParameters;
@@ -10,13 +12,16 @@ import dk.sdu.mmmi.cbse.commondifficulty.events.DifficultyChangedEvent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System that manages difficulty progression over time.
+ * Touches no components, so it may run alongside other declared systems. Difficulty changes are
+ * published deferred, so the enemy and asteroid listeners see them at the next sync point.
  */
-public class DifficultySystem implements IUpdate {
+public class DifficultySystem implements IUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(DifficultySystem.class.getName());
 
     private static final float DIFFICULTY_CHECK_INTERVAL = 5.0f;
@@ -39,6 +44,16 @@ public class DifficultySystem implements IUpdate {
         return 10;
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of();
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         if (difficultyService == null || eventService == null) {
@@ -86,7 +101,8 @@ public class DifficultySystem implements IUpdate {
 
     private void publishDifficultyChange(DifficultyParameters oldParams, DifficultyParameters newParams) {
         DifficultyChangedEvent event = new DifficultyChangedEvent(oldParams, newParams);
-        eventService.publish(event);
+        // Listeners update plain fields read by their own update, which may be running right now
+        eventService.publishDeferred(event);
 
         LOGGER.log(Level.INFO, "Difficulty changed: Level {0} -> {1}, Enemies {2} -> {3}, Asteroids {4} -> {5}",
                 new Object[]{oldParams.difficultyLevel(), newParams.difficultyLevel(),
@@ -3,7 +3,6 @@ package dk.sdu.mmmi.cbse.enemy;
 import dk.sdu.mmmi.cbse.common.RenderLayer;
 import dk.sdu.mmmi.cbse.common.components.MovementComponent;
 import dk.sdu.mmmi.cbse.common.components.RendererComponent;
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
@@ -98,7 +97,7 @@ public class EnemyFactory implements IEnemySPI {
             EnemyType type = selectEnemyType();
 
             Entity enemy = createEnemy(type, gameData, world);
-            world.addEntity(enemy);
+            world.getCommandBuffer().addEntity(enemy);
 
             LOGGER.log(Level.INFO, "Spawned {0} enemy ({1}/{2} enemies) at difficulty {3}",
                     new Object[]{type, currentEnemies + 1, maxEnemies, getCurrentDifficulty()});
@@ -382,13 +381,6 @@ public class EnemyFactory implements IEnemySPI {
     }
 
     private int countCurrentEnemies(World world) {
-        int count = 0;
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.ENEMY)) {
-                count++;
-            }
-        }
-        return count;
+        return world.countEntitiesWithType(EntityType.ENEMY);
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package dk.sdu.mmmi.cbse.enemy;
 
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
@@ -54,13 +53,7 @@ public class EnemyPlugin implements IPluginService {
         initialEnemies.clear();
 
         // Remove any other enemies that may have spawned
-        List<Entity> enemiesToRemove = new ArrayList<>();
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.ENEMY)) {
-                enemiesToRemove.add(entity);
-            }
-        }
+        List<Entity> enemiesToRemove = new ArrayList<>(world.getEntitiesWithType(EntityType.ENEMY));
 
         for (Entity enemy : enemiesToRemove) {
             world.removeEntity(enemy);
@@ -1,7 +1,10 @@
 package dk.sdu.mmmi.cbse.enemy;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.MovementComponent;
+import dk.sdu.mmmi.cbse.common.components.RecoilComponent;
+import dk.sdu.mmmi.cbse.common.components.RendererComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
@@ -9,18 +12,21 @@ import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.events.IEventListener;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IEventService;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commondifficulty.IDifficultyService;
 import dk.sdu.mmmi.cbse.commondifficulty.events.DifficultyChangedEvent;
 import dk.sdu.mmmi.cbse.commonenemy.EnemyComponent;
 import dk.sdu.mmmi.cbse.commonenemy.IEnemySPI;
+import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.commonweapon.IWeaponSPI;
 import dk.sdu.mmmi.cbse.commonweapon.WeaponComponent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,7 +34,7 @@ import java.util.logging.Logger;
  * System managing Enemy behaviors with difficulty-based scaling.
  * Applies real-time difficulty multipliers to enemy movement and combat.
  */
-public class EnemySystem implements IUpdate, IEventListener<DifficultyChangedEvent> {
+public class EnemySystem implements IUpdate, IComponentAccess, IEventListener<DifficultyChangedEvent> {
     private static final Logger LOGGER = Logger.getLogger(EnemySystem.class.getName());
 
     private IEnemySPI enemySPI;
@@ -93,6 +99,18 @@ public class EnemySystem implements IUpdate, IEventListener<DifficultyChangedEve
         return 75; // Run before MovementSystem to set movement parameters
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class, EnemyComponent.class, RendererComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        // Firing updates the weapon and may apply recoil to the shooter
+        return Set.of(TransformComponent.class, MovementComponent.class, WeaponComponent.class,
+                RecoilComponent.class, PhysicsComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         // Refresh services if not available
@@ -109,10 +127,8 @@ public class EnemySystem implements IUpdate, IEventListener<DifficultyChangedEve
         }
 
         // Process all enemies with difficulty scaling
-        for (Entity enemy : world.getEntities()) {
-            if (isEnemy(enemy)) {
-                processEnemy(enemy, playerPosition, gameData, world);
-            }
+        for (Entity enemy : world.getEntitiesWithType(EntityType.ENEMY)) {
+            processEnemy(enemy, playerPosition, gameData, world);
         }
     }
 
@@ -311,7 +327,7 @@ public class EnemySystem implements IUpdate, IEventListener<DifficultyChangedEve
         if (enemySPI != null && enemySPI.shouldFire(enemy, playerPos)) {
             List<Entity> bullets = weaponSPI.shoot(enemy, gameData, weapon.getBulletType());
             for (Entity bullet : bullets) {
-                world.addEntity(bullet);
+                world.getCommandBuffer().addEntity(bullet);
             }
 
             LOGGER.log(Level.FINE, "{0} fired {1} projectiles (difficulty: {2})",
@@ -325,21 +341,12 @@ public class EnemySystem implements IUpdate, IEventListener<DifficultyChangedEve
         return angle;
     }
 
-    private boolean isEnemy(Entity entity) {
-        TagComponent tag = entity.getComponent(TagComponent.class);
-        return tag != null && tag.hasType(EntityType.ENEMY);
-    }
-
     private Vector2D findPlayerPosition(World world) {
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.PLAYER)) {
-                TransformComponent transform = entity.getComponent(TransformComponent.class);
-                if (transform != null) {
-                    return transform.getPosition();
-                }
-            }
+        Entity player = world.getFirstEntityWithType(EntityType.PLAYER);
+        if (player == null) {
+            return null;
         }
-        return null;
+        TransformComponent transform = player.getComponent(TransformComponent.class);
+        return transform != null ? transform.getPosition() : null;
     }
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package dk.sdu.mmmi.cbse.movementsystem;
 
-import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.MovementComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
@@ -8,23 +8,24 @@ import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.Random;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Movement system that handles all entities with MovementComponent.
  */
-public class MovementSystem implements IUpdate, IFixedUpdate {
+public class MovementSystem implements IUpdate, IFixedUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(MovementSystem.class.getName());
     private final Random random = new Random();
 
-    private static final float FIXED_DELTA_TIME = 1.0f / 120.0f;
     private static final long DIRECTION_CHANGE_DELAY = 2000; // milliseconds
 
     @Override
@@ -32,13 +33,28 @@ public class MovementSystem implements IUpdate, IFixedUpdate {
         return 100;
     }
 
+    @Override
+    public int getTickRate() {
+        return Time.BULLET_UPDATE_RATE; // Bullets step at high frequency, everything else per frame
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class, PhysicsComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of(TransformComponent.class, MovementComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         float deltaTime = (float) Time.getDeltaTime();
 
-        for (Entity entity : world.getEntities()) {
+        for (Entity entity : world.query(TransformComponent.class, MovementComponent.class)) {
             TransformComponent transform = entity.getComponent(TransformComponent.class);
-            if (transform == null || !entity.hasComponent(MovementComponent.class)) {
+            if (transform == null) {
                 continue;
             }
 
@@ -67,9 +83,9 @@ public class MovementSystem implements IUpdate, IFixedUpdate {
     @Override
     public void fixedUpdate(GameData gameData, World world) {
         // Handle bullet movement at fixed rate for smoothness
-        for (Entity entity : world.getEntities()) {
+        for (Entity entity : world.query(TransformComponent.class, MovementComponent.class)) {
             TransformComponent transform = entity.getComponent(TransformComponent.class);
-            if (transform == null || !entity.hasComponent(MovementComponent.class)) {
+            if (transform == null) {
                 continue;
             }
 
@@ -78,7 +94,8 @@ public class MovementSystem implements IUpdate, IFixedUpdate {
             // Only process bullets without physics
             if (tag != null && tag.hasType(EntityType.BULLET) &&
                     !entity.hasComponent(PhysicsComponent.class)) {
-                moveEntity(entity, transform, FIXED_DELTA_TIME);
+                transform.storePreviousState(Time.BULLET_UPDATE_RATE);
+                moveEntity(entity, transform, Time.getBulletDeltaTime());
             }
         }
     }
@@ -117,9 +134,7 @@ public class MovementSystem implements IUpdate, IFixedUpdate {
             return;
         }
 
-        Vector2D forward = transform.getForward();
-        Vector2D velocity = forward.scale(movement.getSpeed() * deltaTime);
-        transform.translate(velocity);
+        transform.moveForward(movement.getSpeed() * deltaTime);
     }
 
     /**
@@ -1,7 +1,5 @@
 package dk.sdu.mmmi.cbse.movementsystem;
 
-import dk.sdu.mmmi.cbse.common.Vector2D;
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
@@ -26,22 +24,13 @@ public class ScreenWrapSystem implements ILateUpdate {
 
     @Override
     public void process(GameData gameData, World world) {
-        for (Entity entity : world.getEntities()) {
-            if (!entity.hasComponent(TransformComponent.class)) {
-                continue;
-            }
-
-            TagComponent tagComponent = entity.getComponent(TagComponent.class);
-            if (tagComponent == null) {
-                continue;
-            }
-
-            // Only wrap asteroids - other entities should use boundary system
-            if (!tagComponent.hasType(EntityType.ASTEROID)) {
+        // Only wrap asteroids - other entities should use boundary system
+        for (Entity entity : world.getEntitiesWithType(EntityType.ASTEROID)) {
+            TransformComponent transform = entity.getComponent(TransformComponent.class);
+            if (transform == null) {
                 continue;
             }
 
-            TransformComponent transform = entity.getComponent(TransformComponent.class);
             boolean wrapped = handleScreenWrap(transform, gameData);
 
             if (wrapped) {
@@ -90,7 +79,7 @@ public class ScreenWrapSystem implements ILateUpdate {
 
         // If position changed, update the transform
         if (wrapped) {
-            transform.setPosition(new Vector2D(x, y));
+            transform.setPosition(x, y);
         }
 
         return wrapped;
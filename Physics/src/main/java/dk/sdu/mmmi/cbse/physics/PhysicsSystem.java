@@ -1,27 +1,38 @@
 package dk.sdu.mmmi.cbse.physics;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.Chunk;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+import dk.sdu.mmmi.cbse.common.services.IJobScheduler;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.core.utils.Time;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System handling physics behavior.
  */
-public class PhysicsSystem implements IUpdate, IFixedUpdate {
+public class PhysicsSystem implements IUpdate, IFixedUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(PhysicsSystem.class.getName());
 
+    // Below this many chunks, waking workers costs more than the integration itself
+    private static final int PARALLEL_CHUNK_THRESHOLD = 4;
+
+    private final IJobScheduler jobScheduler;
+
     public PhysicsSystem() {
+        this.jobScheduler = ServiceLoader.load(IJobScheduler.class).findFirst().orElse(null);
         LOGGER.log(Level.INFO, "PhysicsSystem initialized - boundary collision handled by CollisionSystem");
     }
 
@@ -30,39 +41,69 @@ public class PhysicsSystem implements IUpdate, IFixedUpdate {
         return 90; // Run before collision system
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of();
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        // Integration moves transforms, the fixed step updates velocities and sleep state
+        return Set.of(TransformComponent.class, PhysicsComponent.class);
+    }
+
     @Override
     public void fixedUpdate(GameData gameData, World world) {
         float fixedDeltaTime = Time.getFixedDeltaTime();
-        List<Entity> physicsEntities = getPhysicsEntities(world);
 
-        for (Entity entity : physicsEntities) {
-            PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
+        for (Chunk chunk : world.getChunks(PhysicsComponent.class, TransformComponent.class)) {
+            PhysicsComponent[] physicsColumn = chunk.getColumn(PhysicsComponent.class);
+
+            for (int i = 0, size = chunk.size(); i < size; i++) {
+                PhysicsComponent physics = physicsColumn[i];
+                if (physics == null) continue; // Row being moved by another thread
 
-            // Update physics state
-            physics.updateSleepState(fixedDeltaTime);
-            physics.applyAccumulatedForcesAndImpulses(fixedDeltaTime);
-            physics.applyDrag(fixedDeltaTime);
+                // Update physics state
+                physics.updateSleepState(fixedDeltaTime);
+                physics.applyAccumulatedForcesAndImpulses(fixedDeltaTime);
+                physics.applyDrag(fixedDeltaTime);
+            }
         }
     }
 
     @Override
     public void update(GameData gameData, World world) {
         float deltaTime = Time.getDeltaTimeF();
-        List<Entity> physicsEntities = getPhysicsEntities(world);
+        List<Chunk> chunks = world.getChunks(PhysicsComponent.class, TransformComponent.class);
+
+        if (jobScheduler == null || chunks.size() < PARALLEL_CHUNK_THRESHOLD) {
+            integrateChunks(chunks, 0, chunks.size(), deltaTime);
+            return;
+        }
 
-        for (Entity entity : physicsEntities) {
-            updateEntityPhysics(entity, deltaTime);
+        // Chunks hold disjoint entities, so each one can be integrated on its own worker
+        jobScheduler.parallelFor(chunks.size(), 1,
+                (start, end) -> integrateChunks(chunks, start, end, deltaTime)).complete();
+    }
+
+    private void integrateChunks(List<Chunk> chunks, int start, int end, float deltaTime) {
+        for (int c = start; c < end; c++) {
+            Chunk chunk = chunks.get(c);
+            PhysicsComponent[] physicsColumn = chunk.getColumn(PhysicsComponent.class);
+            TransformComponent[] transformColumn = chunk.getColumn(TransformComponent.class);
+
+            for (int i = 0, size = chunk.size(); i < size; i++) {
+                updateEntityPhysics(chunk.getEntity(i), physicsColumn[i], transformColumn[i], deltaTime);
+            }
         }
     }
 
     /**
      * Update physics integration for a single entity
      */
-    private void updateEntityPhysics(Entity entity, float deltaTime) {
-        PhysicsComponent physics = entity.getComponent(PhysicsComponent.class);
-        TransformComponent transform = entity.getComponent(TransformComponent.class);
-
-        if (physics == null || transform == null) return;
+    private void updateEntityPhysics(Entity entity, PhysicsComponent physics,
+                                     TransformComponent transform, float deltaTime) {
+        if (entity == null || physics == null || transform == null) return;
 
         // Skip static entities and sleeping entities
         if (physics.getPhysicsType() == PhysicsComponent.PhysicsType.STATIC ||
@@ -74,12 +115,8 @@ public class PhysicsSystem implements IUpdate, IFixedUpdate {
 
         if (velocity.magnitudeSquared() < 0.001f) return;
 
-        Vector2D displacement = velocity.scale(deltaTime);
-        Vector2D currentPosition = transform.getPosition();
-        Vector2D targetPosition = currentPosition.add(displacement);
-
         // Apply position directly - BoundarySystem will handle boundary collision
-        transform.setPosition(targetPosition);
+        transform.translate(velocity.x() * deltaTime, velocity.y() * deltaTime);
 
         // Update rotation based on angular velocity
         float angularVelocity = physics.getAngularVelocity();
@@ -88,23 +125,9 @@ public class PhysicsSystem implements IUpdate, IFixedUpdate {
             transform.setRotation(newRotation);
         }
 
-        LOGGER.log(Level.FINEST, "Updated entity {0} - pos: {1}, velocity: {2}",
-                new Object[]{entity.getID(), transform.getPosition(), velocity});
-    }
-
-    /**
-     * Get all entities with physics components
-     */
-    private List<Entity> getPhysicsEntities(World world) {
-        List<Entity> physicsEntities = new ArrayList<>();
-
-        for (Entity entity : world.getEntities()) {
-            if (entity.hasComponent(PhysicsComponent.class) &&
-                    entity.hasComponent(TransformComponent.class)) {
-                physicsEntities.add(entity);
-            }
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.log(Level.FINEST, "Updated entity {0} - pos: {1}, velocity: {2}",
+                    new Object[]{entity.getID(), transform.getPosition(), velocity});
         }
-
-        return physicsEntities;
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ module Physics {
     requires Core;
 
     uses dk.sdu.mmmi.cbse.commoncollision.ICollisionSPI;
+    uses dk.sdu.mmmi.cbse.common.services.IJobScheduler;
 
     exports dk.sdu.mmmi.cbse.physics;
 
@@ -2,7 +2,6 @@ package dk.sdu.mmmi.cbse.player;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.RecoilComponent;
-import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
@@ -345,8 +344,8 @@ public class PlayerSystem implements IUpdate {
                 speedMultiplier = recoil.getInputStrength();
             }
 
-            Vector2D velocity = direction.scale(MAX_SPEED * deltaTime * speedMultiplier);
-            transform.translate(velocity);
+            float distance = MAX_SPEED * deltaTime * speedMultiplier;
+            transform.translate(direction.x() * distance, direction.y() * distance);
         }
     }
 
@@ -388,7 +387,7 @@ public class PlayerSystem implements IUpdate {
             List<Entity> bullets = weaponSPI.shoot(player, gameData, weapon.getBulletType());
 
             for (Entity bullet : bullets) {
-                world.addEntity(bullet);
+                world.getCommandBuffer().addEntity(bullet);
             }
 
             if (!bullets.isEmpty()) {
@@ -453,7 +452,7 @@ public class PlayerSystem implements IUpdate {
         // Reset position to screen center
         float centerX = gameData.getDisplayWidth() / 2.0f;
         float centerY = gameData.getDisplayHeight() / 2.0f;
-        transform.setPosition(new Vector2D(centerX, centerY));
+        transform.setPosition(centerX, centerY);
 
         // Reset velocity if physics enabled
         if (physicsSPI != null && physicsSPI.hasPhysics(player)) {
@@ -469,13 +468,7 @@ public class PlayerSystem implements IUpdate {
     }
 
     private Entity findPlayer(World world) {
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.PLAYER)) {
-                return entity;
-            }
-        }
-        return null;
+        return world.getFirstEntityWithType(EntityType.PLAYER);
     }
 
     /**
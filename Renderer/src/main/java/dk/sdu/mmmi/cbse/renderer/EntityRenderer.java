@@ -26,6 +26,18 @@ public class EntityRenderer {
      * @param debugMode Whether to show debug visualization
      */
     public static void renderEntity(Entity entity, GraphicsContext context, boolean debugMode) {
+        renderEntity(entity, context, debugMode, 1.0f);
+    }
+
+    /**
+     * Render a single entity between its previous and current fixed tick state
+     *
+     * @param entity Entity to render
+     * @param context Graphics context to draw to
+     * @param debugMode Whether to show debug visualization
+     * @param alpha Progress from the previous to the current tick, 0 to 1
+     */
+    public static void renderEntity(Entity entity, GraphicsContext context, boolean debugMode, float alpha) {
         RendererComponent renderer = entity.getComponent(RendererComponent.class);
         TransformComponent transform = entity.getComponent(TransformComponent.class);
 
@@ -38,8 +50,8 @@ public class EntityRenderer {
 
         try {
             // Set up transform (position and rotation)
-            context.translate(transform.getX(), transform.getY());
-            context.rotate(transform.getRotation());
+            context.translate(transform.getRenderX(alpha), transform.getRenderY(alpha));
+            context.rotate(transform.getRenderRotation(alpha));
 
             // Set rendering properties
             context.setStroke(renderer.getStrokeColor());
@@ -144,6 +156,6 @@ public class EntityRenderer {
         context.strokeLine(0, 0, transform.getRadius(), 0);
 
         context.setStroke(javafx.scene.paint.Color.WHITE);
-        context.strokeText(entity.getID().substring(0, 8), 0, 0);
+        context.strokeText(entity.getID(), 0, 0);
     }
 }
\ No newline at end of file
@@ -4,12 +4,14 @@ import dk.sdu.mmmi.cbse.common.components.RendererComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.common.data.SystemTiming;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.services.ILateUpdate;
+import dk.sdu.mmmi.cbse.common.services.IFrameBudget;
 import dk.sdu.mmmi.cbse.common.services.IRenderingContext;
+import dk.sdu.mmmi.cbse.common.services.ISystemProfiler;
 import javafx.scene.canvas.GraphicsContext;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ServiceLoader;
@@ -23,11 +25,17 @@ import java.util.logging.Logger;
 public class RenderSystem implements ILateUpdate {
     private static final Logger LOGGER = Logger.getLogger(RenderSystem.class.getName());
     private static final int RENDER_PRIORITY = Integer.MAX_VALUE;
+    private static final int PROFILER_ROWS = 10;
 
     private IRenderingContext renderingContext;
+    private final ISystemProfiler profiler;
+    private final IFrameBudget frameBudget;
+    private boolean missingContextLogged = false;
 
     public RenderSystem() {
         renderingContext = ServiceLoader.load(IRenderingContext.class).findFirst().orElse(null);
+        profiler = ServiceLoader.load(ISystemProfiler.class).findFirst().orElse(null);
+        frameBudget = ServiceLoader.load(IFrameBudget.class).findFirst().orElse(null);
     }
 
     @Override
@@ -43,7 +51,11 @@ public class RenderSystem implements ILateUpdate {
 
         GraphicsContext context = renderingContext.getGraphicsContext();
         if (context == null) {
-            LOGGER.log(Level.WARNING, "No GraphicsContext available for rendering");
+            // Expected when running headless, so only warn once
+            if (!missingContextLogged) {
+                LOGGER.log(Level.WARNING, "No GraphicsContext available for rendering");
+                missingContextLogged = true;
+            }
             return;
         }
 
@@ -51,20 +63,17 @@ public class RenderSystem implements ILateUpdate {
         context.clearRect(0, 0, gameData.getDisplayWidth(), gameData.getDisplayHeight());
 
         // Collect entities with renderer and transform components
-        List<Entity> renderableEntities = new ArrayList<>();
-        for (Entity entity : world.getEntities()) {
-            if (entity.hasComponent(RendererComponent.class) &&
-                    entity.hasComponent(TransformComponent.class)) {
-                renderableEntities.add(entity);
-            }
-        }
+        List<Entity> renderableEntities = world.query(RendererComponent.class, TransformComponent.class).toList();
 
         // Sort entities by render layer (lower values are rendered first, higher values on top)
         renderableEntities.sort(Comparator.comparingInt(e ->
                 e.getComponent(RendererComponent.class).getRenderLayer().getValue()));
 
+        // Fixed-step entities are drawn between their last two ticks, measured at their own tick rate
         for (Entity entity : renderableEntities) {
-            EntityRenderer.renderEntity(entity, context, gameData.isDebugMode());
+            TransformComponent transform = entity.getComponent(TransformComponent.class);
+            float alpha = gameData.getInterpolationAlpha(transform.getStepRate());
+            EntityRenderer.renderEntity(entity, context, gameData.isDebugMode(), alpha);
         }
 
         if (gameData.isDebugMode()) {
@@ -81,9 +90,37 @@ public class RenderSystem implements ILateUpdate {
         context.fillText("FPS: " + (int)(1.0 / gameData.getDeltaTime()), 10, 20);
         context.fillText("Entities: " + world.getEntities().size(), 10, 40);
         context.fillText("Delta Time: " + String.format("%.4f", gameData.getDeltaTime()), 10, 60);
+        context.fillText("Fixed Steps: " + gameData.getFixedSteps(), 10, 80);
+        if (frameBudget != null) {
+            context.fillText(String.format("Frame Work: %.2f / %.2f ms, pressure %d, skipped %d",
+                    frameBudget.getAverageFrameMillis(), frameBudget.getBudgetMillis(),
+                    frameBudget.getPressure(), frameBudget.getSkippedInvocations()), 10, 100);
+        }
+
+        if (profiler != null && profiler.isEnabled()) {
+            renderProfilerInfo(context);
+        }
         context.restore();
     }
 
+    /**
+     * Render the slowest systems by p95 frame time
+     */
+    private void renderProfilerInfo(GraphicsContext context) {
+        List<SystemTiming> timings = profiler.getTimings();
+        double y = 130;
+        context.fillText(String.format("%-12s %-20s %6s %6s %6s %6s", "Phase", "System (ms)",
+                "p50", "p95", "p99", "max"), 10, y);
+
+        for (int i = 0; i < Math.min(PROFILER_ROWS, timings.size()); i++) {
+            SystemTiming timing = timings.get(i);
+            y += 18;
+            context.fillText(String.format("%-12s %-20s %6.3f %6.3f %6.3f %6.3f",
+                    timing.phase(), timing.system(), timing.p50Millis(), timing.p95Millis(),
+                    timing.p99Millis(), timing.maxMillis()), 10, y);
+        }
+    }
+
     @Override
     public int getPriority() {
         return RENDER_PRIORITY;
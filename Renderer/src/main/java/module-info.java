@@ -5,6 +5,8 @@ module Renderer {
     requires javafx.graphics;
 
     uses dk.sdu.mmmi.cbse.common.services.IRenderingContext;
+    uses dk.sdu.mmmi.cbse.common.services.ISystemProfiler;
+    uses dk.sdu.mmmi.cbse.common.services.IFrameBudget;
 
     exports dk.sdu.mmmi.cbse.renderer;
 
@@ -1,17 +1,21 @@
 package dk.sdu.mmmi.cbse.scoreclient;
 
-import dk.sdu.mmmi.cbse.common.events.IEventListener;
-import dk.sdu.mmmi.cbse.commonasteroid.AsteroidComponent;
+import dk.sdu.mmmi.cbse.common.events.IAsyncEventListener;
+import dk.sdu.mmmi.cbse.common.events.IBatchEventListener;
 import dk.sdu.mmmi.cbse.commonasteroid.AsteroidSize;
 import dk.sdu.mmmi.cbse.commonasteroid.events.AsteroidSplitEvent;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Event listener for asteroid split events.
+ * Splits are scored in batches, so a burst of splits costs one call to the score service.
+ * The call blocks on HTTP, so batches are delivered off the game thread.
  */
-public class AsteroidScoreListener implements IEventListener<AsteroidSplitEvent> {
+public class AsteroidScoreListener implements IBatchEventListener<AsteroidSplitEvent>,
+        IAsyncEventListener<AsteroidSplitEvent> {
     private static final Logger LOGGER = Logger.getLogger(AsteroidScoreListener.class.getName());
 
     private final ScoreService scoreService;
@@ -30,22 +34,25 @@ public class AsteroidScoreListener implements IEventListener<AsteroidSplitEvent>
     }
 
     @Override
-    public void onEvent(AsteroidSplitEvent event) {
-        // Get asteroid component to determine size
-        AsteroidComponent asteroidComponent = event.source().getComponent(AsteroidComponent.class);
+    public void onEvents(List<AsteroidSplitEvent> events) {
+        int pointsAwarded = 0;
 
-        if (asteroidComponent == null) {
-            LOGGER.log(Level.WARNING, "AsteroidSplitEvent source missing AsteroidComponent");
-            return;
-        }
+        for (AsteroidSplitEvent event : events) {
+            // Size captured when the event was created, the entity may be gone by now
+            AsteroidSize size = event.getSize();
+
+            if (size == null) {
+                LOGGER.log(Level.WARNING, "AsteroidSplitEvent source missing AsteroidComponent");
+                continue;
+            }
 
-        AsteroidSize size = asteroidComponent.getSize();
-        int pointsAwarded = getPointsForAsteroidSize(size);
+            pointsAwarded += getPointsForAsteroidSize(size);
+        }
 
         if (pointsAwarded > 0) {
             scoreService.addScore(pointsAwarded);
-            LOGGER.log(Level.INFO, "Asteroid split score awarded: {0} points for {1} asteroid",
-                    new Object[]{pointsAwarded, size});
+            LOGGER.log(Level.INFO, "Asteroid split score awarded: {0} points for {1} asteroids",
+                    new Object[]{pointsAwarded, events.size()});
         }
     }
 
@@ -1,15 +1,20 @@
 package dk.sdu.mmmi.cbse.scoreclient;
 
-import dk.sdu.mmmi.cbse.common.events.IEventListener;
+import dk.sdu.mmmi.cbse.common.events.IAsyncEventListener;
+import dk.sdu.mmmi.cbse.common.events.IBatchEventListener;
 import dk.sdu.mmmi.cbse.commonenemy.events.EnemyDestroyedEvent;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Event listener for enemy destruction events.
+ * Destructions are scored in batches, so several kills in one frame cost one call to the score service.
+ * The call blocks on HTTP, so batches are delivered off the game thread.
  */
-public class EnemyScoreListener implements IEventListener<EnemyDestroyedEvent> {
+public class EnemyScoreListener implements IBatchEventListener<EnemyDestroyedEvent>,
+        IAsyncEventListener<EnemyDestroyedEvent> {
     private static final Logger LOGGER = Logger.getLogger(EnemyScoreListener.class.getName());
 
     private final ScoreService scoreService;
@@ -23,22 +28,30 @@ public class EnemyScoreListener implements IEventListener<EnemyDestroyedEvent> {
     }
 
     @Override
-    public void onEvent(EnemyDestroyedEvent event) {
-        int pointsAwarded = event.scoreValue();
-
-        switch (event.cause()) {
-            case PLAYER_BULLET:
-                scoreService.addScore(pointsAwarded);
-                LOGGER.log(Level.INFO, "Enemy destroyed by bullet: +{0} points", pointsAwarded);
-                break;
-            case PLAYER_COLLISION:
-                int collisionBonus = (int) (pointsAwarded * 1.5); // Bonus for collision
-                scoreService.addScore(collisionBonus);
-                LOGGER.log(Level.INFO, "Enemy destroyed by collision: +{0} points (bonus applied)", collisionBonus);
-                break;
-            default:
-                LOGGER.log(Level.FINE, "Enemy destroyed by {0} - no points awarded", event.cause());
-                break;
+    public void onEvents(List<EnemyDestroyedEvent> events) {
+        int totalPoints = 0;
+
+        for (EnemyDestroyedEvent event : events) {
+            int pointsAwarded = event.scoreValue();
+
+            switch (event.cause()) {
+                case PLAYER_BULLET:
+                    totalPoints += pointsAwarded;
+                    LOGGER.log(Level.INFO, "Enemy destroyed by bullet: +{0} points", pointsAwarded);
+                    break;
+                case PLAYER_COLLISION:
+                    int collisionBonus = (int) (pointsAwarded * 1.5); // Bonus for collision
+                    totalPoints += collisionBonus;
+                    LOGGER.log(Level.INFO, "Enemy destroyed by collision: +{0} points (bonus applied)", collisionBonus);
+                    break;
+                default:
+                    LOGGER.log(Level.FINE, "Enemy destroyed by {0} - no points awarded", event.cause());
+                    break;
+            }
+        }
+
+        if (totalPoints > 0) {
+            scoreService.addScore(totalPoints);
         }
     }
 }
\ No newline at end of file
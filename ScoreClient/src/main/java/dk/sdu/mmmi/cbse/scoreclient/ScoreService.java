@@ -3,6 +3,7 @@ package dk.sdu.mmmi.cbse.scoreclient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,8 +16,8 @@ public class ScoreService {
     private final RestTemplate restTemplate;
     private final String scoringServiceUrl;
 
-    // Fallback local score if microservice is unavailable
-    private int fallbackScore = 0;
+    // Fallback local score if microservice is unavailable, updated from asynchronous score listeners
+    private final AtomicInteger fallbackScore = new AtomicInteger();
 
     /**
      * Create score service with RestTemplate configuration
@@ -39,13 +40,13 @@ public class ScoreService {
             // Get the initialized score to confirm
             Integer initializedScore = getScoreFromService();
             if (initializedScore != null) {
-                fallbackScore = initializedScore;
-                LOGGER.log(Level.INFO, "Initialized score with microservice: {0}", fallbackScore);
+                fallbackScore.set(initializedScore);
+                LOGGER.log(Level.INFO, "Initialized score with microservice: {0}", initializedScore);
             }
         } catch (RestClientException e) {
             LOGGER.log(Level.WARNING, "Failed to initialize score with microservice, using fallback: {0}",
                     e.getMessage());
-            fallbackScore = 0;
+            fallbackScore.set(0);
         }
     }
 
@@ -62,15 +63,15 @@ public class ScoreService {
             // Get updated score to confirm the operation
             Integer updatedScore = getScoreFromService();
             if (updatedScore != null) {
-                fallbackScore = updatedScore;
+                fallbackScore.set(updatedScore);
                 LOGGER.log(Level.INFO, "Score updated via microservice: +{0}, total: {1}",
-                        new Object[]{points, fallbackScore});
+                        new Object[]{points, updatedScore});
             }
         } catch (RestClientException e) {
             // Fallback to local scoring if microservice is unavailable
-            fallbackScore += points;
+            int total = fallbackScore.addAndGet(points);
             LOGGER.log(Level.WARNING, "Microservice unavailable, using fallback score: +{0}, total: {1}. Error: {2}",
-                    new Object[]{points, fallbackScore, e.getMessage()});
+                    new Object[]{points, total, e.getMessage()});
         }
     }
 
@@ -87,10 +88,10 @@ public class ScoreService {
          */
         Integer serviceScore = getScoreFromService();
         if (serviceScore != null) {
-            fallbackScore = serviceScore;
+            fallbackScore.set(serviceScore);
             return serviceScore;
         }
-        return fallbackScore;
+        return fallbackScore.get();
     }
 
     /**
@@ -121,11 +122,11 @@ public class ScoreService {
             // Confirm reset by getting the score
             Integer resetScore = getScoreFromService();
             if (resetScore != null) {
-                fallbackScore = resetScore;
-                LOGGER.log(Level.INFO, "Score reset via microservice to: {0}", fallbackScore);
+                fallbackScore.set(resetScore);
+                LOGGER.log(Level.INFO, "Score reset via microservice to: {0}", resetScore);
             }
         } catch (RestClientException e) {
-            fallbackScore = 0;
+            fallbackScore.set(0);
             LOGGER.log(Level.WARNING, "Failed to reset score via microservice, using fallback: {0}",
                     e.getMessage());
         }
@@ -160,6 +161,6 @@ public class ScoreService {
      * @return The fallback score value
      */
     public int getFallbackScore() {
-        return fallbackScore;
+        return fallbackScore.get();
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package dk.sdu.mmmi.cbse.tests.components;
 
+import dk.sdu.mmmi.cbse.common.data.ComponentTypes;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,5 +127,45 @@ class EntityTest {
         assertSame(secondTransform, entity.getComponent(TransformComponent.class));
         assertNotSame(firstTransform, entity.getComponent(TransformComponent.class));
     }
-}
 
+    @Test
+    @DisplayName("Signature should have one bit per component type")
+    void shouldTrackSignature() {
+        long transformBit = ComponentTypes.bit(TransformComponent.class);
+        long tagBit = ComponentTypes.bit(TagComponent.class);
+        assertNotEquals(transformBit, tagBit);
+        assertEquals(0L, entity.getSignature());
+
+        entity.addComponent(transformComponent);
+        entity.addComponent(tagComponent);
+        assertEquals(transformBit | tagBit, entity.getSignature());
+        assertTrue(entity.hasComponents(ComponentTypes.mask(TransformComponent.class, TagComponent.class)));
+
+        new World().addEntity(entity);
+        entity.removeComponent(TagComponent.class);
+        assertEquals(transformBit, entity.getSignature());
+        assertFalse(entity.hasComponents(transformBit | tagBit));
+    }
+
+    @Test
+    @DisplayName("Subclassed components should be found by their parent type")
+    void shouldFindSubclassedComponentByParentType() {
+        ScaledTransform scaled = new ScaledTransform();
+        entity.addComponent(scaled);
+        assertEquals(ComponentTypes.id(TransformComponent.class), ComponentTypes.id(ScaledTransform.class));
+
+        new World().addEntity(entity);
+        assertSame(scaled, entity.getComponent(TransformComponent.class));
+        assertSame(scaled, entity.getComponent(ScaledTransform.class));
+
+        entity.addComponent(transformComponent);
+        assertEquals(1, entity.getComponentCount());
+        assertNull(entity.getComponent(ScaledTransform.class));
+        assertFalse(entity.hasComponent(ScaledTransform.class));
+        assertFalse(entity.removeComponent(ScaledTransform.class));
+        assertSame(transformComponent, entity.getComponent(TransformComponent.class));
+    }
+
+    private static class ScaledTransform extends TransformComponent {
+    }
+}
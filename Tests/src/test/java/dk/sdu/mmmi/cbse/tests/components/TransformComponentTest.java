@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for TransformComponent
@@ -56,6 +58,21 @@ class TransformComponentTest {
         assertEquals(12f, transform.getY(), 0.001f);
     }
 
+    @Test
+    @DisplayName("Should update primitive fields in place")
+    void shouldMutatePrimitiveFields() {
+        Vector2D before = transform.getPosition();
+
+        transform.setPosition(1f, 2f);
+        transform.translate(0.5f, -1f);
+        transform.setScale(2f, 3f);
+
+        assertEquals(Vector2D.zero(), before, "Position vectors should be snapshots");
+        assertEquals(new Vector2D(1.5f, 1f), transform.getPosition());
+        assertEquals(2f, transform.getScaleX(), 0.001f);
+        assertEquals(3f, transform.getScaleY(), 0.001f);
+    }
+
     @Test
     @DisplayName("Should handle rotation and direction vectors correctly")
     void shouldHandleRotationAndDirections() {
@@ -76,6 +93,21 @@ class TransformComponentTest {
         assertEquals(0f, right.y(), 0.001f);
     }
 
+    @Test
+    @DisplayName("Direction vectors should follow rotation within trig tolerance")
+    void shouldMatchExactTrigAfterRotation() {
+        for (float degrees = -720f; degrees <= 720f; degrees += 0.37f) {
+            transform.setRotation(degrees);
+            double radians = Math.toRadians(transform.getRotation());
+
+            Vector2D forward = transform.getForward();
+            assertEquals(Math.cos(radians), forward.x(), 1e-6);
+            assertEquals(Math.sin(radians), forward.y(), 1e-6);
+            assertEquals(Math.sin(radians), transform.getRight().x(), 1e-6);
+            assertEquals(-Math.cos(radians), transform.getRight().y(), 1e-6);
+        }
+    }
+
     @Test
     @DisplayName("Should handle rotation accumulation correctly")
     void shouldHandleRotationAccumulation() {
@@ -134,4 +166,25 @@ class TransformComponentTest {
         transform.setRadius(15f);
         assertEquals(15f, transform.getRadius(), 0.001f);
     }
+
+    @Test
+    @DisplayName("Should interpolate between fixed steps until teleported")
+    void shouldInterpolateBetweenSteps() {
+        transform.setPosition(10, 20);
+        transform.setRotation(350);
+
+        transform.storePreviousState();
+        transform.translate(10, -20);
+        transform.rotate(20);
+
+        assertTrue(transform.isInterpolating());
+        assertEquals(15f, transform.getRenderX(0.5f), 0.001f);
+        assertEquals(10f, transform.getRenderY(0.5f), 0.001f);
+        assertEquals(360f, transform.getRenderRotation(0.5f), 0.001f); // Short way across 0
+        assertEquals(20f, transform.getRenderX(1.0f), 0.001f);
+
+        transform.setPosition(100, 100);
+        assertFalse(transform.isInterpolating());
+        assertEquals(100f, transform.getRenderX(0.5f), 0.001f);
+    }
 }
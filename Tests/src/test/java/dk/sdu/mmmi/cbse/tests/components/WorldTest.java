@@ -0,0 +1,348 @@
+package dk.sdu.mmmi.cbse.tests.components;
+
+import dk.sdu.mmmi.cbse.common.components.TagComponent;
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.Archetype;
+import dk.sdu.mmmi.cbse.common.data.Chunk;
+import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityCommandBuffer;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
+import dk.sdu.mmmi.cbse.common.data.EntityPool;
+import dk.sdu.mmmi.cbse.common.data.EntityType;
+import dk.sdu.mmmi.cbse.common.data.Query;
+import dk.sdu.mmmi.cbse.common.data.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for World and its archetype storage
+ */
+@DisplayName("World Unit Tests")
+class WorldTest {
+
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        world = new World();
+    }
+
+    @Test
+    @DisplayName("Entities with the same component set should share an archetype")
+    void shouldGroupEntitiesByArchetype() {
+        Entity a = createEntity(true, false);
+        Entity b = createEntity(true, false);
+        Entity c = createEntity(true, true);
+        world.addEntity(a);
+        world.addEntity(b);
+        world.addEntity(c);
+
+        assertNotNull(a.getArchetype());
+        assertSame(a.getArchetype(), b.getArchetype());
+        assertNotSame(a.getArchetype(), c.getArchetype());
+        assertEquals(2, a.getArchetype().size());
+    }
+
+    @Test
+    @DisplayName("Adding and removing components should migrate entity between archetypes")
+    void shouldMigrateOnComponentChange() {
+        Entity entity = createEntity(true, false);
+        TransformComponent transform = entity.getComponent(TransformComponent.class);
+        world.addEntity(entity);
+        Archetype before = entity.getArchetype();
+
+        TagComponent tag = new TagComponent();
+        entity.addComponent(tag);
+
+        assertNotSame(before, entity.getArchetype());
+        assertEquals(0, before.size());
+        assertSame(transform, entity.getComponent(TransformComponent.class));
+        assertSame(tag, entity.getComponent(TagComponent.class));
+        assertEquals(2, entity.getComponentCount());
+
+        assertTrue(entity.removeComponent(TagComponent.class));
+        assertSame(before, entity.getArchetype());
+        assertNull(entity.getComponent(TagComponent.class));
+        assertSame(transform, entity.getComponent(TransformComponent.class));
+    }
+
+    @Test
+    @DisplayName("Chunks should expose every matching component exactly once")
+    void shouldIterateChunkColumns() {
+        Set<TransformComponent> expected = new HashSet<>();
+        for (int i = 0; i < Chunk.CAPACITY * 2 + 5; i++) {
+            Entity entity = createEntity(true, i % 3 == 0);
+            expected.add(entity.getComponent(TransformComponent.class));
+            world.addEntity(entity);
+        }
+        world.addEntity(createEntity(false, true));
+
+        Set<TransformComponent> seen = new HashSet<>();
+        for (Chunk chunk : world.getChunks(TransformComponent.class)) {
+            TransformComponent[] column = chunk.getColumn(TransformComponent.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                assertSame(column[i], chunk.getEntity(i).getComponent(TransformComponent.class));
+                assertTrue(seen.add(column[i]));
+            }
+        }
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    @DisplayName("Removing entities should keep remaining entities and their components intact")
+    void shouldKeepStorageConsistentOnRemoval() {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < Chunk.CAPACITY + 10; i++) {
+            Entity entity = createEntity(true, false);
+            entities.add(entity);
+            world.addEntity(entity);
+        }
+
+        Entity removed = entities.remove(3);
+        TransformComponent removedTransform = removed.getComponent(TransformComponent.class);
+        world.removeEntity(removed);
+
+        // Removed entity keeps its components outside the world
+        assertNull(removed.getArchetype());
+        assertSame(removedTransform, removed.getComponent(TransformComponent.class));
+
+        Archetype archetype = entities.get(0).getArchetype();
+        assertEquals(entities.size(), archetype.size());
+        for (Entity entity : entities) {
+            assertNotNull(entity.getComponent(TransformComponent.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Clearing the entity view should empty the world")
+    void shouldClearThroughEntityView() {
+        for (int i = 0; i < 10; i++) {
+            world.addEntity(createEntity(true, true));
+        }
+
+        world.getEntities().clear();
+
+        assertEquals(0, world.getEntities().size());
+        assertTrue(world.getChunks(TransformComponent.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Handles should resolve to their entity while it is in the world")
+    void shouldResolveHandles() {
+        Entity entity = createEntity(true, false);
+        assertEquals(EntityHandle.NULL, entity.getHandle());
+
+        long handle = world.addEntity(entity);
+
+        assertEquals(handle, entity.getHandle());
+        assertSame(entity, world.getEntity(handle));
+        assertTrue(world.isAlive(handle));
+    }
+
+    @Test
+    @DisplayName("Stale handles should not resolve after their slot is reused")
+    void shouldRejectStaleHandles() {
+        Entity first = createEntity(true, false);
+        long staleHandle = world.addEntity(first);
+        world.removeEntity(first);
+
+        assertEquals(EntityHandle.NULL, first.getHandle());
+        assertNull(world.getEntity(staleHandle));
+
+        Entity second = createEntity(true, false);
+        long newHandle = world.addEntity(second);
+
+        assertEquals(EntityHandle.index(staleHandle), EntityHandle.index(newHandle));
+        assertNotEquals(staleHandle, newHandle);
+        assertNull(world.getEntity(staleHandle));
+        assertSame(second, world.getEntity(newHandle));
+    }
+
+    @Test
+    @DisplayName("Queries should stay current as components are added and removed")
+    void shouldKeepQueriesLive() {
+        Query query = world.query(TransformComponent.class, TagComponent.class);
+        assertSame(query, world.query(TransformComponent.class, TagComponent.class));
+
+        Entity tagged = createEntity(true, true);
+        Entity untagged = createEntity(true, false);
+        world.addEntity(tagged);
+        world.addEntity(untagged);
+        assertEquals(List.of(tagged), query.toList());
+
+        untagged.addComponent(new TagComponent());
+        assertEquals(2, query.size());
+
+        tagged.removeComponent(TagComponent.class);
+        assertEquals(List.of(untagged), query.toList());
+
+        world.removeEntity(untagged);
+        assertTrue(query.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removing entities while iterating a query should not skip any")
+    void shouldAllowRemovalDuringQueryIteration() {
+        int count = Chunk.CAPACITY * 2 + 7;
+        for (int i = 0; i < count; i++) {
+            world.addEntity(createEntity(true, false));
+        }
+
+        int visited = 0;
+        for (Entity entity : world.query(TransformComponent.class)) {
+            visited++;
+            if (visited % 2 == 0) {
+                world.removeEntity(entity);
+            }
+        }
+
+        assertEquals(count, visited);
+        assertEquals(count - count / 2, world.query(TransformComponent.class).size());
+    }
+
+    @Test
+    @DisplayName("Tag index should follow type changes on indexed entities")
+    void shouldIndexEntitiesByType() {
+        Entity entity = createEntity(true, false);
+        entity.addComponent(new TagComponent(EntityType.ENEMY));
+        world.addEntity(entity);
+        assertSame(entity, world.getFirstEntityWithType(EntityType.ENEMY));
+        assertEquals(1, world.countEntitiesWithType(EntityType.ENEMY));
+
+        TagComponent tag = entity.getComponent(TagComponent.class);
+        tag.addType(EntityType.OBSTACLE);
+        tag.removeType(EntityType.ENEMY);
+        assertEquals(0, world.countEntitiesWithType(EntityType.ENEMY));
+        assertTrue(world.getEntitiesWithType(EntityType.OBSTACLE).contains(entity));
+
+        entity.addComponent(new TagComponent(EntityType.PLAYER));
+        assertEquals(0, world.countEntitiesWithType(EntityType.OBSTACLE));
+        assertSame(entity, world.getFirstEntityWithType(EntityType.PLAYER));
+
+        // Detached components no longer report to the index
+        tag.addType(EntityType.ENEMY);
+        assertEquals(0, world.countEntitiesWithType(EntityType.ENEMY));
+    }
+
+    @Test
+    @DisplayName("Removed entities should leave the tag index")
+    void shouldUnindexRemovedEntities() {
+        List<Entity> asteroids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Entity asteroid = createEntity(true, false);
+            asteroid.addComponent(new TagComponent(EntityType.ASTEROID));
+            asteroids.add(asteroid);
+            world.addEntity(asteroid);
+        }
+        assertEquals(10, world.countEntitiesWithType(EntityType.ASTEROID));
+
+        for (Entity asteroid : world.getEntitiesWithType(EntityType.ASTEROID)) {
+            world.removeEntity(asteroid);
+        }
+        assertEquals(0, world.countEntitiesWithType(EntityType.ASTEROID));
+        assertNull(world.getFirstEntityWithType(EntityType.ASTEROID));
+
+        // Tags changed outside the world are picked up when re-added
+        Entity asteroid = asteroids.get(0);
+        asteroid.getComponent(TagComponent.class).addType(EntityType.OBSTACLE);
+        world.addEntity(asteroid);
+        assertTrue(world.getEntitiesWithType(EntityType.OBSTACLE).contains(asteroid));
+        assertTrue(world.getEntitiesWithType(EntityType.ASTEROID).contains(asteroid));
+    }
+
+    @Test
+    @DisplayName("Command buffer should defer structural changes until playback")
+    void shouldDeferCommandsUntilPlayback() {
+        Entity existing = createEntity(true, false);
+        world.addEntity(existing);
+        Entity created = createEntity(true, false);
+
+        EntityCommandBuffer commands = world.getCommandBuffer();
+        commands.addEntity(created);
+        commands.addComponent(created, new TagComponent(EntityType.BULLET));
+        commands.removeEntity(existing);
+
+        assertEquals(3, commands.size());
+        assertEquals(List.of(existing), world.query(TransformComponent.class).toList());
+
+        assertEquals(3, commands.playback());
+        assertTrue(commands.isEmpty());
+        assertEquals(List.of(created), world.query(TransformComponent.class).toList());
+        assertSame(created, world.getFirstEntityWithType(EntityType.BULLET));
+    }
+
+    @Test
+    @DisplayName("Command buffer should accept commands from several threads")
+    void shouldRecordCommandsConcurrently() throws InterruptedException {
+        int threads = 4;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    world.getCommandBuffer().addEntity(createEntity(true, false));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, world.getCommandBuffer().playback());
+        assertEquals(threads * perThread, world.getEntities().size());
+    }
+
+    @Test
+    @DisplayName("Removed pool entities should be reset and handed out again")
+    void shouldRecyclePooledEntities() {
+        EntityPool pool = new EntityPool("test", () -> createEntity(true, false), 4)
+                .onRelease(TransformComponent.class, transform -> transform.setRotation(0));
+
+        Entity first = pool.obtain();
+        first.getComponent(TransformComponent.class).setRotation(90);
+        first.addComponent(new TagComponent());
+        long handle = world.addEntity(first);
+
+        world.getCommandBuffer().removeEntity(first);
+        world.getCommandBuffer().playback();
+        assertFalse(world.isAlive(handle));
+        assertEquals(1, pool.available());
+        assertNull(first.getComponent(TagComponent.class), "Components added after creation should be stripped");
+        assertEquals(0, first.getComponent(TransformComponent.class).getRotation(), 0.001);
+
+        Entity second = pool.obtain();
+        assertSame(first, second);
+        assertEquals(0, pool.available());
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getReusedCount());
+
+        // A removal recorded before the entity was recycled must not hit its new life
+        world.addEntity(second);
+        world.getCommandBuffer().removeEntity(second);
+        world.removeEntity(second);
+        long reused = world.addEntity(pool.obtain());
+        world.getCommandBuffer().playback();
+        assertTrue(world.isAlive(reused));
+    }
+
+    private Entity createEntity(boolean withTransform, boolean withTag) {
+        Entity entity = new Entity();
+        if (withTransform) {
+            entity.addComponent(new TransformComponent());
+        }
+        if (withTag) {
+            entity.addComponent(new TagComponent());
+        }
+        return entity;
+    }
+}
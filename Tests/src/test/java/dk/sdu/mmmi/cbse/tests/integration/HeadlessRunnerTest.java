@@ -0,0 +1,163 @@
+package dk.sdu.mmmi.cbse.tests.integration;
+
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.common.services.ICriticality;
+import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+import dk.sdu.mmmi.cbse.common.services.ILateUpdate;
+import dk.sdu.mmmi.cbse.common.services.IPluginService;
+import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.core.FrameBudgetGovernor;
+import dk.sdu.mmmi.cbse.core.HeadlessRunner;
+import dk.sdu.mmmi.cbse.core.utils.Time;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test running the system pipeline without JavaFX
+ */
+@DisplayName("HeadlessRunner Integration Tests")
+class HeadlessRunnerTest {
+
+    @Test
+    @DisplayName("Should drive every phase and fixed tick rate from the synthetic clock")
+    void shouldRunPipelineHeadless() {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger stopped = new AtomicInteger();
+        AtomicInteger updates = new AtomicInteger();
+        AtomicInteger fixedUpdates = new AtomicInteger();
+        AtomicInteger fastFixedUpdates = new AtomicInteger();
+        AtomicInteger lateUpdates = new AtomicInteger();
+
+        IPluginService plugin = new IPluginService() {
+            @Override
+            public void start(GameData gameData, World world) {
+                started.incrementAndGet();
+            }
+
+            @Override
+            public void stop(GameData gameData, World world) {
+                stopped.incrementAndGet();
+            }
+        };
+        IUpdate update = new IUpdate() {
+            @Override
+            public void update(GameData gameData, World world) {
+                updates.incrementAndGet();
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+        };
+        IFixedUpdate fixedUpdate = new IFixedUpdate() {
+            @Override
+            public void fixedUpdate(GameData gameData, World world) {
+                fixedUpdates.incrementAndGet();
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+        };
+        IFixedUpdate fastFixedUpdate = new IFixedUpdate() {
+            @Override
+            public void fixedUpdate(GameData gameData, World world) {
+                fastFixedUpdates.incrementAndGet();
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+
+            @Override
+            public int getTickRate() {
+                return Time.getFixedUpdateRate() * 2;
+            }
+        };
+        ILateUpdate lateUpdate = new ILateUpdate() {
+            @Override
+            public void process(GameData gameData, World world) {
+                lateUpdates.incrementAndGet();
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+        };
+
+        HeadlessRunner runner = new HeadlessRunner(List.of(plugin), List.of(update), List.of(fixedUpdate, fastFixedUpdate),
+                List.of(lateUpdate), null);
+
+        // Four fixed steps per frame must not hit the catch-up cap
+        runner.run(120, 4.0 / Time.getFixedUpdateRate(), 0);
+
+        assertEquals(1, started.get());
+        assertEquals(1, stopped.get());
+        assertEquals(120, updates.get());
+        assertEquals(120, lateUpdates.get());
+        assertEquals(480, fixedUpdates.get(), 1);
+        assertEquals(960, fastFixedUpdates.get(), 2);
+    }
+
+    @Test
+    @DisplayName("Should not throttle fixed update systems under frame pressure")
+    void shouldNotThrottleFixedUpdates() {
+        AtomicInteger fixedUpdates = new AtomicInteger();
+
+        class CosmeticFixedUpdate implements IFixedUpdate, ICriticality {
+            @Override
+            public void fixedUpdate(GameData gameData, World world) {
+                fixedUpdates.incrementAndGet();
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+
+            @Override
+            public Criticality getCriticality() {
+                return Criticality.COSMETIC;
+            }
+        }
+
+        FrameBudgetGovernor governor = FrameBudgetGovernor.getInstance();
+        try {
+            // Every frame is far over this budget, so the governor reaches full pressure at once
+            governor.setBudgetMillis(0.000001);
+            HeadlessRunner runner = new HeadlessRunner(List.of(), List.of(), List.of(new CosmeticFixedUpdate()),
+                    List.of(), null);
+
+            runner.run(120, 1.0 / Time.getFixedUpdateRate(), 0);
+
+            assertEquals(2, governor.getPressure());
+            assertEquals(120, fixedUpdates.get(), 1);
+        } finally {
+            governor.setBudgetMillis(0);
+            governor.setBudgetMillis(FrameBudgetGovernor.DEFAULT_BUDGET_MILLIS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid frame times and speeds")
+    void shouldRejectInvalidFrameTimeAndSpeed() {
+        HeadlessRunner runner = new HeadlessRunner(List.of(), List.of(), List.of(), List.of(), null);
+
+        assertThrows(IllegalArgumentException.class, () -> runner.run(1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(1, 1.0 / 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(1, Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(1, 1.0 / 60, -1));
+        assertThrows(IllegalArgumentException.class, () -> runner.run(1, 1.0 / 60, Double.NaN));
+    }
+}
@@ -4,6 +4,7 @@ import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityHandle;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.commonbullet.BulletComponent;
@@ -21,7 +22,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.ServiceLoader;
-import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -208,7 +208,7 @@ class WeaponBulletIntegrationTest {
         bullet.addComponent(new TransformComponent());
 
         BulletComponent bulletComp = new BulletComponent(
-                UUID.randomUUID(),
+                EntityHandle.NULL,
                 BulletComponent.BulletSource.PLAYER
         );
         bullet.addComponent(bulletComp);
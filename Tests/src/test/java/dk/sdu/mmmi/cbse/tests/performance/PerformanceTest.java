@@ -5,17 +5,21 @@ import dk.sdu.mmmi.cbse.common.Pair;
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.data.EntityPool;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.commoncollision.ColliderComponent;
 import dk.sdu.mmmi.cbse.commoncollision.CollisionLayer;
+import dk.sdu.mmmi.cbse.commoncollision.CollisionLayerMatrix;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,6 +80,179 @@ class PerformanceTest {
         }
     }
 
+    @Test
+    @DisplayName("Collision detection should handle tens of thousands of entities")
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    void collisionDetectionShouldHandleLargeEntityCounts() {
+        int[] entityCounts = {20_000, 50_000};
+
+        for (int count : entityCounts) {
+            world = new World();
+            for (int i = 0; i < count; i++) {
+                world.addEntity(createRandomEntity());
+            }
+
+            // Warm-up pass grows the grid buffers, the second pass reuses them
+            collisionDetector.detectCollisions(gameData, world);
+
+            long startTime = System.nanoTime();
+            List<Pair<Entity, Entity>> collisions = collisionDetector.detectCollisions(gameData, world);
+            long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+
+            assertTrue(durationMs < count / 10,
+                    String.format("Collision detection took %dms for %d entities", durationMs, count));
+            assertFalse(collisions.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Grid broad-phase should report every colliding pair exactly once")
+    void gridBroadPhaseShouldMatchBruteForce() {
+        int count = 2000;
+        for (int i = 0; i < count; i++) {
+            world.addEntity(createRandomEntity());
+        }
+
+        assertMatchesBruteForce(new CollisionDetector(CollisionDetector.createBroadPhase("grid")));
+    }
+
+    @Test
+    @DisplayName("Sweep and prune should stay exact while entities move, spawn and despawn")
+    void sweepAndPruneShouldMatchBruteForceAcrossFrames() {
+        assertExactAcrossFrames(new CollisionDetector(CollisionDetector.createBroadPhase("sap")));
+    }
+
+    @Test
+    @DisplayName("AABB tree should stay exact while entities move, spawn and despawn")
+    void aabbTreeShouldMatchBruteForceAcrossFrames() {
+        assertExactAcrossFrames(new CollisionDetector(CollisionDetector.createBroadPhase("tree")));
+    }
+
+    @Test
+    @DisplayName("Sweep and prune should stay exact while pooled entities are recycled")
+    void sweepAndPruneShouldMatchBruteForceWithPooledReuse() {
+        assertExactWithPooledReuse(new CollisionDetector(CollisionDetector.createBroadPhase("sap")));
+    }
+
+    @Test
+    @DisplayName("AABB tree should stay exact while pooled entities are recycled")
+    void aabbTreeShouldMatchBruteForceWithPooledReuse() {
+        assertExactWithPooledReuse(new CollisionDetector(CollisionDetector.createBroadPhase("tree")));
+    }
+
+    @Test
+    @DisplayName("Temporal broad-phases should handle tens of thousands of entities")
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    void temporalBroadPhasesShouldHandleLargeEntityCounts() {
+        int count = 20_000;
+        for (int i = 0; i < count; i++) {
+            world.addEntity(createRandomEntity());
+        }
+
+        for (String broadPhase : new String[]{"sap", "tree"}) {
+            CollisionDetector detector = new CollisionDetector(CollisionDetector.createBroadPhase(broadPhase));
+
+            // First pass builds from scratch, the second only repairs the structure
+            detector.detectCollisions(gameData, world);
+
+            long startTime = System.nanoTime();
+            List<Pair<Entity, Entity>> collisions = detector.detectCollisions(gameData, world);
+            long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+
+            assertTrue(durationMs < count / 10,
+                    String.format("Collision detection with %s took %dms for %d entities",
+                            broadPhase, durationMs, count));
+            assertFalse(collisions.isEmpty());
+        }
+    }
+
+    private void assertExactAcrossFrames(CollisionDetector detector) {
+        for (int i = 0; i < 2000; i++) {
+            world.addEntity(createRandomEntity());
+        }
+
+        // A cluster far off screen, where a screen-sized grid cannot see it
+        for (int i = 0; i < 20; i++) {
+            Entity entity = createRandomEntity();
+            entity.getComponent(TransformComponent.class).setPosition(
+                    new Vector2D(-500 + random.nextFloat() * 40, -300 + random.nextFloat() * 40));
+            world.addEntity(entity);
+        }
+
+        for (int frame = 0; frame < 5; frame++) {
+            assertMatchesBruteForce(detector);
+
+            List<Entity> entities = List.copyOf(world.getEntities());
+            for (int i = 0; i < entities.size(); i++) {
+                Entity entity = entities.get(i);
+                if (i % 50 == frame) {
+                    world.removeEntity(entity);
+                    world.addEntity(createRandomEntity());
+                    continue;
+                }
+                TransformComponent transform = entity.getComponent(TransformComponent.class);
+                transform.setPosition(new Vector2D(
+                        transform.getX() + random.nextFloat() * 20 - 10,
+                        transform.getY() + random.nextFloat() * 20 - 10));
+            }
+        }
+    }
+
+    private void assertExactWithPooledReuse(CollisionDetector detector) {
+        EntityPool pool = new EntityPool("test", this::createRandomEntity, 100);
+        for (int i = 0; i < 2000; i++) {
+            world.addEntity(pool.obtain());
+        }
+
+        for (int frame = 0; frame < 5; frame++) {
+            assertMatchesBruteForce(detector);
+
+            // Released entities come straight back and land in their old slot with a new generation
+            List<Entity> entities = List.copyOf(world.getEntities());
+            for (int i = frame; i < entities.size(); i += 50) {
+                Entity entity = entities.get(i);
+                long handle = entity.getHandle();
+                world.removeEntity(entity);
+
+                Entity reused = pool.obtain();
+                assertSame(entity, reused);
+                world.addEntity(reused);
+                assertNotEquals(handle, reused.getHandle());
+            }
+        }
+
+        assertTrue(pool.getReusedCount() > 0);
+    }
+
+    private void assertMatchesBruteForce(CollisionDetector detector) {
+        Set<String> detected = new HashSet<>();
+        for (Pair<Entity, Entity> pair : detector.detectCollisions(gameData, world)) {
+            assertTrue(pair.getFirst().getHandle() < pair.getSecond().getHandle());
+            assertTrue(detected.add(pair.getFirst().getID() + ":" + pair.getSecond().getID()),
+                    "Pair reported twice");
+        }
+
+        CollisionLayerMatrix layerMatrix = CollisionLayerMatrix.getInstance();
+        List<Entity> entities = List.copyOf(world.getEntities());
+        Set<String> expected = new HashSet<>();
+        for (Entity a : entities) {
+            for (Entity b : entities) {
+                if (a.getHandle() >= b.getHandle()) {
+                    continue;
+                }
+                boolean layersCollide = layerMatrix.canLayersCollide(
+                        a.getComponent(ColliderComponent.class).getLayer(),
+                        b.getComponent(ColliderComponent.class).getLayer());
+                if (layersCollide && detector.isColliding(a, b)) {
+                    expected.add(a.getID() + ":" + b.getID());
+                }
+            }
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, detected);
+    }
+
     @Test
     @DisplayName("World entity management should perform efficiently")
     @Timeout(value = 2, unit = TimeUnit.SECONDS)
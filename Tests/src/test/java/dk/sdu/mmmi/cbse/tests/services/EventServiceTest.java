@@ -1,6 +1,8 @@
 package dk.sdu.mmmi.cbse.tests.services;
 
 import dk.sdu.mmmi.cbse.common.data.Entity;
+import dk.sdu.mmmi.cbse.common.events.IAsyncEventListener;
+import dk.sdu.mmmi.cbse.common.events.IBatchEventListener;
 import dk.sdu.mmmi.cbse.common.events.IEvent;
 import dk.sdu.mmmi.cbse.common.events.IEventListener;
 import dk.sdu.mmmi.cbse.core.events.EventService;
@@ -11,7 +13,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -145,6 +155,100 @@ class EventServiceTest {
         verify(mockListener1, times(1)).onEvent(event);
     }
 
+    @Test
+    @DisplayName("Should notify listeners subscribed to an event interface")
+    void shouldNotifyInterfaceSubscribers() {
+        List<String> received = new ArrayList<>();
+        IEventListener<MarkedEvent> interfaceListener = event -> received.add("interface");
+        IEventListener<MarkedTestEvent> exactListener = event -> received.add("exact");
+
+        eventService.subscribe(MarkedTestEvent.class, exactListener);
+        eventService.publish(new MarkedTestEvent());
+        assertEquals(List.of("exact"), received);
+
+        // Subscribing after a publish must not leave a stale dispatch table behind
+        eventService.subscribe(MarkedEvent.class, interfaceListener);
+        try {
+            received.clear();
+            eventService.publish(new MarkedTestEvent());
+            assertEquals(List.of("exact", "interface"), received);
+        } finally {
+            eventService.unsubscribe(MarkedEvent.class, interfaceListener);
+            eventService.unsubscribe(MarkedTestEvent.class, exactListener);
+        }
+
+        received.clear();
+        eventService.publish(new MarkedTestEvent());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hold deferred events until dispatched and batch them for batch listeners")
+    void shouldDispatchDeferredEventsInBatches() {
+        List<String> received = new ArrayList<>();
+        List<List<MarkedTestEvent>> batches = new ArrayList<>();
+        IEventListener<MarkedTestEvent> single = event -> received.add("single");
+        IBatchEventListener<MarkedTestEvent> batched = events -> batches.add(List.copyOf(events));
+
+        eventService.subscribe(MarkedTestEvent.class, single);
+        eventService.subscribe(MarkedTestEvent.class, batched);
+        try {
+            MarkedTestEvent first = new MarkedTestEvent();
+            MarkedTestEvent second = new MarkedTestEvent();
+            eventService.publishDeferred(first);
+            eventService.publishDeferred(second);
+            assertTrue(received.isEmpty());
+            assertTrue(batches.isEmpty());
+
+            assertEquals(2, eventService.dispatchDeferred());
+            assertEquals(List.of("single", "single"), received);
+            assertEquals(List.of(List.of(first, second)), batches);
+
+            assertEquals(0, eventService.dispatchDeferred());
+
+            // Immediate publishing hands batch listeners a batch of one
+            eventService.publish(first);
+            assertEquals(List.of(first), batches.get(1));
+        } finally {
+            eventService.unsubscribe(MarkedTestEvent.class, batched);
+            eventService.unsubscribe(MarkedTestEvent.class, single);
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver to asynchronous listeners in order off the publishing thread")
+    void shouldDeliverAsyncListenersInOrder() throws InterruptedException {
+        Thread publisher = Thread.currentThread();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(3);
+        List<MarkedTestEvent> received = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        SlowListener slow = new SlowListener(started, release, delivered, received, threads);
+
+        eventService.subscribe(MarkedTestEvent.class, slow);
+        try {
+            List<MarkedTestEvent> events = List.of(new MarkedTestEvent(), new MarkedTestEvent(),
+                    new MarkedTestEvent(), new MarkedTestEvent(), new MarkedTestEvent());
+            long droppedBefore = eventService.getDroppedAsyncEvents();
+
+            // The first event blocks the listener, two queue up and the rest overflow the backlog
+            eventService.publish(events.get(0));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (MarkedTestEvent event : events.subList(1, events.size())) {
+                eventService.publish(event);
+            }
+            release.countDown();
+
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(events.subList(0, 3), received);
+            assertTrue(threads.stream().allMatch(thread -> thread != publisher && thread.isVirtual()));
+            assertEquals(2, eventService.getDroppedAsyncEvents() - droppedBefore);
+        } finally {
+            eventService.unsubscribe(MarkedTestEvent.class, slow);
+        }
+    }
+
     // === Test event classes ===
 
     private static class TestEvent implements IEvent {
@@ -164,6 +268,51 @@ class EventServiceTest {
         }
     }
 
+    private static class SlowListener implements IAsyncEventListener<MarkedTestEvent> {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private final CountDownLatch delivered;
+        private final List<MarkedTestEvent> received;
+        private final List<Thread> threads;
+
+        SlowListener(CountDownLatch started, CountDownLatch release, CountDownLatch delivered,
+                     List<MarkedTestEvent> received, List<Thread> threads) {
+            this.started = started;
+            this.release = release;
+            this.delivered = delivered;
+            this.received = received;
+            this.threads = threads;
+        }
+
+        @Override
+        public void onEvent(MarkedTestEvent event) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread());
+            received.add(event);
+            delivered.countDown();
+        }
+
+        @Override
+        public int getBacklogLimit() {
+            return 2;
+        }
+    }
+
+    private interface MarkedEvent extends IEvent {
+    }
+
+    private static class MarkedTestEvent implements MarkedEvent {
+        @Override
+        public Entity source() {
+            return null;
+        }
+    }
+
     private static class AnotherTestEvent implements IEvent {
         @Override
         public Entity source() {
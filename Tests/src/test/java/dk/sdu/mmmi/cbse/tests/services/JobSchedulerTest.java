@@ -0,0 +1,66 @@
+package dk.sdu.mmmi.cbse.tests.services;
+
+import dk.sdu.mmmi.cbse.common.services.IJobHandle;
+import dk.sdu.mmmi.cbse.core.jobs.JobScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the work-stealing job scheduler
+ */
+@DisplayName("JobScheduler Unit Tests")
+class JobSchedulerTest {
+
+    private JobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new JobScheduler(4);
+    }
+
+    @Test
+    @DisplayName("Should visit every index exactly once in a parallel-for")
+    void shouldCoverRangeOnce() {
+        AtomicIntegerArray visits = new AtomicIntegerArray(10_000);
+
+        scheduler.parallelFor(visits.length(), 64, (start, end) -> {
+            assertTrue(end - start <= 64);
+            for (int i = start; i < end; i++) {
+                visits.incrementAndGet(i);
+            }
+        }).complete();
+
+        for (int i = 0; i < visits.length(); i++) {
+            assertEquals(1, visits.get(i), "Index " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a job only after its dependencies finish")
+    void shouldRespectDependencies() {
+        int[] values = new int[1_000];
+
+        IJobHandle fill = scheduler.parallelFor(values.length, 100, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                values[i] = i;
+            }
+        });
+        IJobHandle doubled = scheduler.parallelFor(values.length, 100, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                values[i] *= 2;
+            }
+        }, fill);
+
+        scheduler.completeAll();
+
+        assertTrue(doubled.isDone());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i * 2, values[i]);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dk.sdu.mmmi.cbse.tests.systems;
 
 import dk.sdu.mmmi.cbse.collision.CollisionDetector;
+import dk.sdu.mmmi.cbse.collision.DynamicAabbTree;
+import dk.sdu.mmmi.cbse.collision.IBroadPhase;
 import dk.sdu.mmmi.cbse.common.Pair;
 import dk.sdu.mmmi.cbse.common.Vector2D;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -140,6 +143,67 @@ class CollisionDetectorTest {
         assertTrue(collisions.isEmpty());
     }
 
+    @Test
+    @DisplayName("AABB tree should answer region and ray queries anywhere, including off screen")
+    void aabbTreeShouldAnswerRegionAndRayQueries() {
+        Entity offScreen = createCollisionEntity(-200f, -200f, 10f, CollisionLayer.ENEMY);
+        Entity onScreen = createCollisionEntity(100f, 100f, 10f, CollisionLayer.OBSTACLE);
+        Entity wall = createCollisionEntity(5000f, 100f, 450f, CollisionLayer.BOUNDARY);
+        world.addEntity(offScreen);
+        world.addEntity(onScreen);
+        world.addEntity(wall);
+
+        DynamicAabbTree tree = new DynamicAabbTree();
+        tree.update(List.copyOf(world.getEntities()), gameData);
+
+        List<Entity> region = new ArrayList<>();
+        tree.queryRegion(-250f, -250f, -150f, -150f, region::add);
+        assertEquals(List.of(offScreen), region);
+
+        List<Entity> hits = new ArrayList<>();
+        tree.queryRay(0f, 100f, 6000f, 100f, hits::add);
+        assertEquals(2, hits.size());
+        assertTrue(hits.containsAll(List.of(onScreen, wall)));
+    }
+
+    @Test
+    @DisplayName("AABB tree should stay balanced when entities arrive in sorted order")
+    void aabbTreeShouldStayBalanced() {
+        for (int i = 0; i < 1024; i++) {
+            world.addEntity(createCollisionEntity(i * 30f, 0f, 5f, CollisionLayer.OBSTACLE));
+        }
+
+        DynamicAabbTree tree = new DynamicAabbTree();
+        tree.update(List.copyOf(world.getEntities()), gameData);
+
+        // A perfectly balanced tree over 1024 leaves has height 10
+        assertTrue(tree.getHeight() <= 15, "Tree height " + tree.getHeight());
+    }
+
+    @Test
+    @DisplayName("Broad-phases should only pair entities whose layers can collide")
+    void broadPhasesShouldSkipLayersThatCannotCollide() {
+        // Overlapping enemy bullets and enemies, none of which collide with each other
+        for (int i = 0; i < 20; i++) {
+            world.addEntity(createCollisionEntity(100f + i, 100f, 10f, CollisionLayer.ENEMY_PROJECTILE));
+            world.addEntity(createCollisionEntity(100f, 100f + i, 10f, CollisionLayer.ENEMY));
+        }
+        Entity playerBullet = createCollisionEntity(105f, 105f, 10f, CollisionLayer.PLAYER_PROJECTILE);
+        world.addEntity(playerBullet);
+
+        for (String name : List.of("grid", "sap", "tree")) {
+            IBroadPhase broadPhase = CollisionDetector.createBroadPhase(name);
+            broadPhase.update(List.copyOf(world.getEntities()), gameData);
+
+            List<Entity> partners = new ArrayList<>();
+            broadPhase.forEachPair((a, b) -> {
+                assertTrue(a == playerBullet || b == playerBullet, name + " paired incompatible layers");
+                partners.add(a == playerBullet ? b : a);
+            });
+            assertEquals(40, partners.size(), name);
+        }
+    }
+
     private Entity createCollisionEntity(float x, float y, float radius, CollisionLayer layer) {
         Entity entity = new Entity();
 
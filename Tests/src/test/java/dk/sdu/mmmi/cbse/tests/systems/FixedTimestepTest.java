@@ -0,0 +1,100 @@
+package dk.sdu.mmmi.cbse.tests.systems;
+
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.GameData;
+import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IFixedUpdate;
+import dk.sdu.mmmi.cbse.core.Simulation;
+import dk.sdu.mmmi.cbse.core.utils.FixedTimestep;
+import dk.sdu.mmmi.cbse.core.utils.Time;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fixed-step accumulator driving IFixedUpdate systems
+ */
+@DisplayName("FixedTimestep Unit Tests")
+class FixedTimestepTest {
+
+    private static final double STEP = 1.0 / 60.0;
+    private static final int MAX_STEPS = 5;
+
+    private FixedTimestep timestep;
+
+    @BeforeEach
+    void setUp() {
+        timestep = new FixedTimestep();
+    }
+
+    @Test
+    @DisplayName("Should run exactly the configured rate over uneven frames")
+    void shouldKeepConfiguredRate() {
+        double[] frames = {0.007, 0.016, 0.025, 0.0167, 0.033, 0.002};
+        int steps = 0;
+        double elapsed = 0;
+        for (int i = 0; i < 600; i++) {
+            double frame = frames[i % frames.length];
+            elapsed += frame;
+            steps += timestep.advance(frame, STEP, MAX_STEPS);
+        }
+
+        assertEquals((int) (elapsed / STEP), steps);
+        assertTrue(timestep.getAccumulator() < STEP);
+        assertEquals(0, timestep.getDroppedSteps());
+    }
+
+    @Test
+    @DisplayName("Should cap catch-up steps after a stall and drop the excess")
+    void shouldCapCatchUpSteps() {
+        assertEquals(MAX_STEPS, timestep.advance(1.0, STEP, MAX_STEPS));
+        assertEquals(60 - MAX_STEPS, timestep.getDroppedSteps());
+        assertTrue(timestep.getAccumulator() < STEP);
+
+        assertEquals(1, timestep.advance(STEP, STEP, MAX_STEPS));
+    }
+
+    @Test
+    @DisplayName("Should interpolate a system slower than the master clock over its own interval")
+    void shouldInterpolateSlowerSystemsOverTheirInterval() {
+        TransformComponent transform = new TransformComponent();
+        int slowRate = Time.getFixedUpdateRate() / 2;
+
+        // Moves one unit per tick at half the base rate, so the master clock ticks twice per step
+        IFixedUpdate slowSystem = new IFixedUpdate() {
+            @Override
+            public void fixedUpdate(GameData gameData, World world) {
+                transform.storePreviousState(slowRate);
+                transform.translate(1, 0);
+            }
+
+            @Override
+            public int getPriority() {
+                return 0;
+            }
+
+            @Override
+            public int getTickRate() {
+                return slowRate;
+            }
+        };
+        GameData gameData = new GameData();
+        Simulation simulation = new Simulation(gameData, new World(), List.of(), List.of(slowSystem), List.of());
+
+        // Four frames per master tick, each should move the drawn position an eighth of a unit
+        double frameTime = 1.0 / (Time.getFixedUpdateRate() * 4);
+        float previous = Float.NaN;
+        for (int frame = 0; frame < 64; frame++) {
+            simulation.step(frameTime);
+            float rendered = transform.getRenderX(gameData.getInterpolationAlpha(transform.getStepRate()));
+            if (frame >= 8) {
+                assertEquals(0.125f, rendered - previous, 0.01f, "Rendered position jumped at frame " + frame);
+            }
+            previous = rendered;
+        }
+    }
+}
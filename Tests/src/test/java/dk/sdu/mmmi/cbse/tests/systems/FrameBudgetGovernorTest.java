@@ -0,0 +1,77 @@
+package dk.sdu.mmmi.cbse.tests.systems;
+
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.core.FrameBudgetGovernor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for throttling decisions of the frame-budget governor
+ */
+@DisplayName("FrameBudgetGovernor Unit Tests")
+class FrameBudgetGovernorTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    private FrameBudgetGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        governor = new FrameBudgetGovernor();
+        governor.setBudgetMillis(10.0);
+    }
+
+    @Test
+    @DisplayName("Should throttle cosmetic and then normal systems as load grows")
+    void shouldDegradeByCriticality() {
+        runFrames(100, 8 * MILLISECOND);
+        assertEquals(0, governor.getPressure());
+        assertEquals(FrameBudgetGovernor.THROTTLE_INTERVAL, countRuns(Criticality.COSMETIC, FrameBudgetGovernor.THROTTLE_INTERVAL));
+
+        runFrames(100, 12 * MILLISECOND);
+        assertEquals(1, governor.getPressure());
+        assertEquals(1, countRuns(Criticality.COSMETIC, FrameBudgetGovernor.THROTTLE_INTERVAL));
+        assertEquals(FrameBudgetGovernor.THROTTLE_INTERVAL, countRuns(Criticality.NORMAL, FrameBudgetGovernor.THROTTLE_INTERVAL));
+
+        runFrames(100, 20 * MILLISECOND);
+        assertEquals(2, governor.getPressure());
+        assertEquals(0, countRuns(Criticality.COSMETIC, FrameBudgetGovernor.THROTTLE_INTERVAL));
+        assertEquals(1, countRuns(Criticality.NORMAL, FrameBudgetGovernor.THROTTLE_INTERVAL));
+        assertEquals(FrameBudgetGovernor.THROTTLE_INTERVAL, countRuns(Criticality.CRITICAL, FrameBudgetGovernor.THROTTLE_INTERVAL));
+        assertTrue(governor.getSkippedInvocations() > 0);
+    }
+
+    @Test
+    @DisplayName("Should recover one level at a time once load drops")
+    void shouldRecoverGradually() {
+        runFrames(100, 20 * MILLISECOND);
+        assertEquals(2, governor.getPressure());
+
+        runFrames(100, 2 * MILLISECOND);
+        assertEquals(1, governor.getPressure());
+
+        runFrames(100, 2 * MILLISECOND);
+        assertEquals(0, governor.getPressure());
+        assertEquals(4, governor.getPressureChanges()); // Up through 1 to 2, then back down
+    }
+
+    private void runFrames(int frames, long workNanos) {
+        for (int i = 0; i < frames; i++) {
+            governor.endFrame(workNanos);
+        }
+    }
+
+    private int countRuns(Criticality criticality, int frames) {
+        int runs = 0;
+        for (int i = 0; i < frames; i++) {
+            if (governor.shouldRun(criticality, 0)) {
+                runs++;
+            }
+            governor.endFrame((long) (governor.getAverageFrameMillis() * MILLISECOND));
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,197 @@
+package dk.sdu.mmmi.cbse.tests.systems;
+
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+import dk.sdu.mmmi.cbse.common.components.TagComponent;
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
+import dk.sdu.mmmi.cbse.common.data.SystemTiming;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
+import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.core.ModuleConfig;
+import dk.sdu.mmmi.cbse.core.SystemScheduler;
+import dk.sdu.mmmi.cbse.core.profiling.SystemProfiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the dependency-driven system scheduler
+ */
+@DisplayName("SystemScheduler Unit Tests")
+class SystemSchedulerTest {
+
+    private ForkJoinPool pool;
+    private List<String> order;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        order = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should keep priority order between conflicting systems")
+    void shouldOrderConflictingSystems() {
+        List<Runnable> systems = List.of(
+                new DeclaredSystem("writer", Set.of(), Set.of(TransformComponent.class)),
+                new DeclaredSystem("reader", Set.of(TransformComponent.class), Set.of()),
+                new DeclaredSystem("independent", Set.of(TagComponent.class), Set.of()),
+                new DeclaredSystem("rewriter", Set.of(), Set.of(TransformComponent.class))
+        );
+        SystemScheduler<Runnable> scheduler = new SystemScheduler<>("test", systems, pool);
+        assertTrue(scheduler.isParallel());
+
+        for (int run = 0; run < 50; run++) {
+            order.clear();
+            scheduler.run(Runnable::run);
+
+            assertEquals(4, order.size());
+            assertTrue(order.indexOf("writer") < order.indexOf("reader"));
+            assertTrue(order.indexOf("reader") < order.indexOf("rewriter"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse its run state across many runs with skipped systems")
+    void shouldReuseRunStateAcrossRuns() {
+        List<Runnable> systems = List.of(
+                new DeclaredSystem("writer", Set.of(), Set.of(TransformComponent.class)),
+                new DeclaredSystem("tagger", Set.of(), Set.of(TagComponent.class)),
+                new DeclaredSystem("reader", Set.of(TransformComponent.class, TagComponent.class), Set.of()),
+                new DeclaredSystem("other", Set.of(TagComponent.class), Set.of())
+        );
+        SystemScheduler<Runnable> scheduler = new SystemScheduler<>("test", systems, pool);
+
+        for (int run = 0; run < 500; run++) {
+            order.clear();
+            // Skip the writer every other run, its dependents must still be released
+            boolean writerDue = run % 2 == 0;
+            scheduler.run(Runnable::run, index -> index != 0 || writerDue);
+
+            assertEquals(writerDue ? 4 : 3, order.size());
+            assertEquals(writerDue, order.contains("writer"));
+            assertTrue(order.indexOf("tagger") < order.indexOf("reader"));
+            assertTrue(order.indexOf("tagger") < order.indexOf("other"));
+            if (writerDue) {
+                assertTrue(order.indexOf("writer") < order.indexOf("reader"));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should run undeclared systems alone on the calling thread")
+    void shouldRunUndeclaredSystemsExclusively() {
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        Runnable undeclared = () -> {
+            threads.add(Thread.currentThread());
+            order.add("undeclared");
+        };
+        List<Runnable> systems = List.of(
+                new DeclaredSystem("first", Set.of(TagComponent.class), Set.of()),
+                undeclared,
+                new DeclaredSystem("last", Set.of(TagComponent.class), Set.of())
+        );
+        SystemScheduler<Runnable> scheduler = new SystemScheduler<>("test", systems, pool);
+
+        scheduler.run(Runnable::run);
+
+        assertEquals(List.of("first", "undeclared", "last"), order);
+        assertEquals(List.of(caller), threads);
+    }
+
+    @Test
+    @DisplayName("Should overlap some of the game's own update systems")
+    void shouldOverlapGameUpdateSystems() {
+        List<IUpdate> systems = ModuleConfig.getUpdateServices();
+        SystemScheduler<IUpdate> scheduler = new SystemScheduler<>("update", systems, pool);
+        assertTrue(scheduler.isParallel());
+
+        // Stands in for the update call, long enough for systems dispatched together to overlap
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        scheduler.run(system -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        assertTrue(maxRunning.get() >= 2,
+                "At most one of " + systems.size() + " update systems ran at a time");
+    }
+
+    @Test
+    @DisplayName("Should time systems only while the profiler is enabled")
+    void shouldProfileWhenEnabled() {
+        SystemProfiler profiler = SystemProfiler.getInstance();
+        Runnable undeclared = () -> order.add("undeclared");
+        SystemScheduler<Runnable> scheduler = new SystemScheduler<>("profiled", List.of(undeclared), pool, profiler);
+
+        try {
+            profiler.setEnabled(false);
+            scheduler.run(Runnable::run);
+            assertTrue(profiler.getTimings().stream().noneMatch(t -> t.phase().equals("profiled")));
+
+            profiler.setEnabled(true);
+            for (int i = 0; i < 10; i++) {
+                scheduler.run(Runnable::run);
+            }
+
+            SystemTiming timing = profiler.getTimings().stream()
+                    .filter(t -> t.phase().equals("profiled"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(10, timing.samples());
+            assertTrue(timing.p50Millis() <= timing.p95Millis());
+            assertTrue(timing.p99Millis() <= timing.maxMillis());
+        } finally {
+            profiler.setEnabled(false);
+            profiler.reset();
+        }
+    }
+
+    private class DeclaredSystem implements Runnable, IComponentAccess {
+        private final String name;
+        private final Set<Class<? extends IComponent>> reads;
+        private final Set<Class<? extends IComponent>> writes;
+
+        DeclaredSystem(String name, Set<Class<? extends IComponent>> reads, Set<Class<? extends IComponent>> writes) {
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+        }
+
+        @Override
+        public void run() {
+            order.add(name);
+        }
+
+        @Override
+        public Set<Class<? extends IComponent>> getReads() {
+            return reads;
+        }
+
+        @Override
+        public Set<Class<? extends IComponent>> getWrites() {
+            return writes;
+        }
+    }
+}
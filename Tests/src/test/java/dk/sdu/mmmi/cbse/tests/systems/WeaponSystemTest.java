@@ -179,8 +179,10 @@ class WeaponSystemTest {
             // Act: Update system
             weaponSystem.update(gameData, world);
 
-            // Assert: Verify weapon service was called and bullet added to world
+            // Assert: Verify weapon service was called and bullet added at the next sync point
             verify(mockWeaponSPI).shoot(burstEntity, gameData, "standard");
+            assertFalse(world.getEntities().contains(mockBullet));
+            world.getCommandBuffer().playback();
             assertTrue(world.getEntities().contains(mockBullet));
         }
     }
@@ -291,8 +293,9 @@ class WeaponSystemTest {
 
             int initialEntityCount = world.getEntities().size();
 
-            // Act: Update system
+            // Act: Update system and apply the deferred additions
             weaponSystem.update(gameData, world);
+            world.getCommandBuffer().playback();
 
             // Assert: Verify all bullets were added to world
             assertEquals(initialEntityCount + 3, world.getEntities().size());
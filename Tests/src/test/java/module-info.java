@@ -31,6 +31,9 @@ module Tests {
     requires Enemy;
     requires CommonMovement;
     requires Weapon;
+    requires Movement;
+    requires Asteroid;
+    requires Difficulty;
 
     opens dk.sdu.mmmi.cbse.tests.components to org.junit.platform.commons;
     opens dk.sdu.mmmi.cbse.tests.contracts to org.junit.platform.commons;
@@ -1,5 +1,6 @@
 package dk.sdu.mmmi.cbse.ui;
 
+import dk.sdu.mmmi.cbse.common.data.EntityCommandBuffer;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
 import dk.sdu.mmmi.cbse.commonui.IUIService;
@@ -22,10 +23,11 @@ public class UIService implements IUIService {
 
     @Override
     public void createHUD(GameData gameData, World world) {
-        world.addEntity(uiFactory.createHealthDisplay(gameData));
-        world.addEntity(uiFactory.createLivesDisplay(gameData));
-        world.addEntity(uiFactory.createWeaponDisplay(gameData));
-        world.addEntity(uiFactory.createScoreDisplay(gameData));
+        EntityCommandBuffer commands = world.getCommandBuffer();
+        commands.addEntity(uiFactory.createHealthDisplay(gameData));
+        commands.addEntity(uiFactory.createLivesDisplay(gameData));
+        commands.addEntity(uiFactory.createWeaponDisplay(gameData));
+        commands.addEntity(uiFactory.createScoreDisplay(gameData));
 
         LOGGER.log(Level.INFO, "HUD created!");
     }
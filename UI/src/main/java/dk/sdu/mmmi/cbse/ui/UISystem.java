@@ -1,11 +1,15 @@
 package dk.sdu.mmmi.cbse.ui;
 
 import dk.sdu.mmmi.cbse.common.Vector2D;
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.Criticality;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
+import dk.sdu.mmmi.cbse.common.services.ICriticality;
 import dk.sdu.mmmi.cbse.common.services.IScoreSPI;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commonplayer.PlayerComponent;
@@ -15,13 +19,14 @@ import dk.sdu.mmmi.cbse.commonweapon.WeaponComponent;
 import dk.sdu.mmmi.cbse.commonweapon.Weapon;
 
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System for updating UI elements.
  */
-public class UISystem implements IUpdate {
+public class UISystem implements IUpdate, IComponentAccess, ICriticality {
     private static final Logger LOGGER = Logger.getLogger(UISystem.class.getName());
 
     private IUIService uiService;
@@ -39,6 +44,21 @@ public class UISystem implements IUpdate {
         return 200;
     }
 
+    @Override
+    public Criticality getCriticality() {
+        return Criticality.COSMETIC;
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class, PlayerComponent.class, WeaponComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of(UIComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         // Refresh services if not available
@@ -83,7 +103,7 @@ public class UISystem implements IUpdate {
             return;
         }
 
-        for (Entity uiEntity : world.getEntities()) {
+        for (Entity uiEntity : world.query(UIComponent.class)) {
             UIComponent uiComponent = uiEntity.getComponent(UIComponent.class);
             if (uiComponent == null || !uiComponent.isAutoUpdate()) {
                 continue;
@@ -218,12 +238,6 @@ public class UISystem implements IUpdate {
     }
 
     private Entity findPlayer(World world) {
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.PLAYER)) {
-                return entity;
-            }
-        }
-        return null;
+        return world.getFirstEntityWithType(EntityType.PLAYER);
     }
 }
\ No newline at end of file
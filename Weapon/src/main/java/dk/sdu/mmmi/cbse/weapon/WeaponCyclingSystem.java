@@ -1,10 +1,12 @@
 package dk.sdu.mmmi.cbse.weapon;
 
+import dk.sdu.mmmi.cbse.common.components.IComponent;
 import dk.sdu.mmmi.cbse.common.components.TagComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.EntityType;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
 import dk.sdu.mmmi.cbse.commonweapon.WeaponComponent;
 import dk.sdu.mmmi.cbse.commonweapon.Weapon;
@@ -12,13 +14,14 @@ import dk.sdu.mmmi.cbse.core.input.Button;
 import dk.sdu.mmmi.cbse.core.input.InputController;
 
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System for handling player weapon cycling.
  */
-public class WeaponCyclingSystem implements IUpdate {
+public class WeaponCyclingSystem implements IUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(WeaponCyclingSystem.class.getName());
 
     private final WeaponRegistry weaponRegistry;
@@ -49,6 +52,16 @@ public class WeaponCyclingSystem implements IUpdate {
         return 80;
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        return Set.of(WeaponComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         // Detect initial weapon if not done yet
@@ -160,12 +173,6 @@ public class WeaponCyclingSystem implements IUpdate {
      * Find the player entity in the world
      */
     private Entity findPlayer(World world) {
-        for (Entity entity : world.getEntities()) {
-            TagComponent tag = entity.getComponent(TagComponent.class);
-            if (tag != null && tag.hasType(EntityType.PLAYER)) {
-                return entity;
-            }
-        }
-        return null;
+        return world.getFirstEntityWithType(EntityType.PLAYER);
     }
 }
\ No newline at end of file
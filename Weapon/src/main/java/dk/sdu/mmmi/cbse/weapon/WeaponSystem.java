@@ -1,9 +1,16 @@
 package dk.sdu.mmmi.cbse.weapon;
 
+import dk.sdu.mmmi.cbse.common.components.IComponent;
+import dk.sdu.mmmi.cbse.common.components.RecoilComponent;
+import dk.sdu.mmmi.cbse.common.components.RendererComponent;
+import dk.sdu.mmmi.cbse.common.components.TagComponent;
+import dk.sdu.mmmi.cbse.common.components.TransformComponent;
 import dk.sdu.mmmi.cbse.common.data.Entity;
 import dk.sdu.mmmi.cbse.common.data.GameData;
 import dk.sdu.mmmi.cbse.common.data.World;
+import dk.sdu.mmmi.cbse.common.services.IComponentAccess;
 import dk.sdu.mmmi.cbse.common.services.IUpdate;
+import dk.sdu.mmmi.cbse.commonphysics.PhysicsComponent;
 import dk.sdu.mmmi.cbse.commonweapon.IWeaponSPI;
 import dk.sdu.mmmi.cbse.commonweapon.Weapon;
 import dk.sdu.mmmi.cbse.commonweapon.WeaponComponent;
@@ -11,13 +18,14 @@ import dk.sdu.mmmi.cbse.core.utils.Time;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * System that handles weapons
  */
-public class WeaponSystem implements IUpdate {
+public class WeaponSystem implements IUpdate, IComponentAccess {
     private static final Logger LOGGER = Logger.getLogger(WeaponSystem.class.getName());
 
     private IWeaponSPI weaponSPI;
@@ -32,11 +40,22 @@ public class WeaponSystem implements IUpdate {
         return 100;
     }
 
+    @Override
+    public Set<Class<? extends IComponent>> getReads() {
+        return Set.of(TagComponent.class, TransformComponent.class, RendererComponent.class);
+    }
+
+    @Override
+    public Set<Class<? extends IComponent>> getWrites() {
+        // Firing may apply recoil to the shooter
+        return Set.of(WeaponComponent.class, RecoilComponent.class, PhysicsComponent.class);
+    }
+
     @Override
     public void update(GameData gameData, World world) {
         float deltaTime = Time.getDeltaTimeF();
 
-        for (Entity entity : world.getEntities()) {
+        for (Entity entity : world.query(WeaponComponent.class)) {
             WeaponComponent weapon = entity.getComponent(WeaponComponent.class);
             if (weapon == null) {
                 continue;
@@ -73,7 +92,7 @@ public class WeaponSystem implements IUpdate {
                 List<Entity> bullets = weaponSPI.shoot(shooter, gameData, weapon.getBulletType());
 
                 for (Entity bullet : bullets) {
-                    world.addEntity(bullet);
+                    world.getCommandBuffer().addEntity(bullet);
                 }
 
                 LOGGER.log(Level.FINE, "Auto-continued burst for entity {0}, created {1} bullets",
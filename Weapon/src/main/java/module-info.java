@@ -2,6 +2,7 @@ module Weapon {
     requires Common;
     requires CommonBullet;
     requires CommonWeapon;
+    requires CommonPhysics;
     requires java.logging;
     requires Core;
 